@@ -13,8 +13,10 @@ import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class AdminService {
     private final SettlementRepository settlementRepository;
     private final ReportRepository reportRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. 승인 대기중인 매물 목록 가져오기
     @Transactional(readOnly = true)
@@ -50,6 +53,8 @@ public class AdminService {
 
         vehicle.extendExpirationDate();
 
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
+
         User dealer = vehicle.getRegisteredBy().getUser();
         User boss = vehicle.getCompany().getOwner();
 
@@ -82,6 +87,8 @@ public class AdminService {
 
         vehicle.reject(reason, admin);
 
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
+
         User dealer = vehicle.getRegisteredBy().getUser();
         User boss = vehicle.getCompany().getOwner();
 
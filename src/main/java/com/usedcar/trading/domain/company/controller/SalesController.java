@@ -5,7 +5,7 @@ import com.usedcar.trading.domain.company.repository.CompanyRepository;
 import com.usedcar.trading.domain.employee.entity.Employee;
 import com.usedcar.trading.domain.employee.repository.EmployeeRepository;
 import com.usedcar.trading.domain.transaction.entity.Transaction;
-import com.usedcar.trading.domain.transaction.entity.TransactionStatus;
+import com.usedcar.trading.domain.transaction.repository.TransactionRepository;
 import com.usedcar.trading.domain.user.entity.Role;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
@@ -14,7 +14,6 @@ import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +24,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Controller
@@ -38,6 +37,7 @@ public class SalesController {
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final EmployeeRepository employeeRepository;
+    private final TransactionRepository transactionRepository;
 
     @GetMapping
     public String salesDashboard(Model model,
@@ -47,54 +47,31 @@ public class SalesController {
 
         User user = findUser(principal);
 
-        List<Vehicle> allVehicles;
+        // 필터: REQUESTED 는 구매 요청이 있는 매물, 그 외는 매물 상태 (ALL 또는 알 수 없는 값이면 전체)
+        boolean requestedOnly = "REQUESTED".equals(filter);
+        VehicleStatus status = requestedOnly ? null : parseStatus(filter);
 
+        Page<Vehicle> vehiclePage;
         if (user.getRole() == Role.COMPANY_OWNER) {
             Company company = companyRepository.findByOwner_UserId(user.getUserId())
                     .orElseThrow(() -> new IllegalArgumentException("등록된 업체가 없습니다."));
-            allVehicles = vehicleRepository.findByCompany(company);
+            vehiclePage = vehicleRepository.findSalesDashboardByCompany(company.getCompanyId(), status, requestedOnly, pageable);
         } else if (user.getRole() == Role.COMPANY_EMPLOYEE) {
             Employee employee = employeeRepository.findByUserUserId(user.getUserId())
                     .orElseThrow(() -> new IllegalArgumentException("소속된 회사가 없습니다."));
-            allVehicles = vehicleRepository.findByRegisteredBy(employee);
+            vehiclePage = vehicleRepository.findSalesDashboardByEmployee(employee.getEmployeeId(), status, requestedOnly, pageable);
         } else {
             throw new IllegalStateException("판매자 권한이 아닙니다.");
         }
 
-        List<Vehicle> filteredList;
-        if ("REQUESTED".equals(filter)) {
-            filteredList = allVehicles.stream().filter(this::hasRequestedTransaction).collect(Collectors.toList());
-        } else if ("SALE".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.SALE).collect(Collectors.toList());
-        } else if ("RESERVED".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.RESERVED).collect(Collectors.toList());
-        } else if ("SOLD".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.SOLD).collect(Collectors.toList());
-        } else if ("PENDING".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.PENDING).collect(Collectors.toList());
-        } else if ("REJECTED".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.REJECTED).collect(Collectors.toList());
-        } else if ("EXPIRED".equals(filter)) {
-            filteredList = allVehicles.stream().filter(v -> v.getVehicleStatus() == VehicleStatus.EXPIRED).collect(Collectors.toList());
-        } else {
-            filteredList = allVehicles;
-        }
-
-        filteredList.sort(Comparator.comparingInt(this::getPriorityScore));
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredList.size());
-
-        List<Vehicle> pagedList;
-        if (start > filteredList.size()) {
-            pagedList = List.of();
-        } else {
-            pagedList = filteredList.subList(start, end);
-        }
-
-        Page<Vehicle> vehiclePage = new PageImpl<>(pagedList, pageable, filteredList.size());
+        // 현재 페이지 매물의 거래만 한 번에 조회 (승인/거부/완료 버튼용)
+        List<Long> vehicleIds = vehiclePage.getContent().stream().map(Vehicle::getVehicleId).collect(Collectors.toList());
+        Map<Long, List<Transaction>> transactionsByVehicle = vehicleIds.isEmpty() ? Map.of()
+                : transactionRepository.findWithDetailsByVehicleIdIn(vehicleIds).stream()
+                        .collect(Collectors.groupingBy(t -> t.getVehicle().getVehicleId()));
 
         model.addAttribute("vehicles", vehiclePage);
+        model.addAttribute("transactionsByVehicle", transactionsByVehicle);
         model.addAttribute("currentFilter", filter);
 
         int totalPages = vehiclePage.getTotalPages();
@@ -111,17 +88,12 @@ public class SalesController {
         return "company/sales-list";
     }
 
-    private int getPriorityScore(Vehicle v) {
-        if (hasRequestedTransaction(v)) return 1;
-        if (v.getTransactions().stream().anyMatch(t -> t.getTransactionStatus() == TransactionStatus.APPROVED)) return 2;
-        if (v.getVehicleStatus() == VehicleStatus.SALE) return 3;
-        if (v.getVehicleStatus() == VehicleStatus.SOLD) return 5;
-        return 4;
-    }
-
-    private boolean hasRequestedTransaction(Vehicle v) {
-        return v.getTransactions().stream()
-                .anyMatch(t -> t.getTransactionStatus() == TransactionStatus.REQUESTED);
+    private VehicleStatus parseStatus(String filter) {
+        try {
+            return VehicleStatus.valueOf(filter);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     private User findUser(Object principal) {
@@ -1,9 +1,9 @@
 package com.usedcar.trading.domain.favorite.controller;
 
-import com.usedcar.trading.domain.favorite.entity.Favorite;
 import com.usedcar.trading.domain.favorite.service.FavoriteService;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -35,8 +35,8 @@ public class FavoriteController {
             return "redirect:/login";
         }
 
-        List<Favorite> favorites = favoriteService.getMyFavorites(user.getUserId());
-        int favoriteCount = favoriteService.getMyFavoriteCount(user.getUserId());
+        List<VehicleCard> favorites = favoriteService.getMyFavoriteCards(user.getUserId());
+        int favoriteCount = favorites.size();
 
         model.addAttribute("favorites", favorites);
         model.addAttribute("favoriteCount", favoriteCount);
@@ -1,7 +1,10 @@
 package com.usedcar.trading.domain.favorite.repository;
 
 import com.usedcar.trading.domain.favorite.entity.Favorite;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,12 +16,26 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // 특정 유저의 찜 목록 조회
     List<Favorite> findByUserUserId(Long userId);
 
+    // 특정 유저의 찜 목록을 카드 DTO 로 조회 (최근 찜한 순)
+    @Query("SELECT new com.usedcar.trading.domain.vehicle.dto.VehicleCard(" +
+            "v.vehicleId, v.brand, v.model, v.modelYear, v.mileage, v.price, v.fuelType, v.transmission, " +
+            "v.color, v.thumbnailUrl, v.viewCount, v.vehicleStatus, v.createdAt) " +
+            "FROM Favorite f JOIN f.vehicle v WHERE f.user.userId = :userId ORDER BY f.createdAt DESC")
+    List<VehicleCard> findCardsByUserId(@Param("userId") Long userId);
+
+    // 특정 유저가 찜한 매물 ID 목록 (하트 표시용)
+    @Query("SELECT f.vehicle.vehicleId FROM Favorite f WHERE f.user.userId = :userId")
+    List<Long> findVehicleIdsByUserId(@Param("userId") Long userId);
+
     // 특정 차량을 찜한 사람 목록 조회
     List<Favorite> findByVehicleVehicleId(Long vehicleId);
 
     // 특정 유저가 특정 차량을 찜했는지 확인 (중복 체크)
     boolean existsByUserUserIdAndVehicleVehicleId(Long userId, Long vehicleId);
 
+    // 로그인 이메일 기준 찜 여부 (유저 조회 없이 한 번에 확인)
+    boolean existsByUserEmailAndVehicleVehicleId(String email, Long vehicleId);
+
     // 특정 유저의 특정 차량 찜 조회
     Optional<Favorite> findByUserUserIdAndVehicleVehicleId(Long userId, Long vehicleId);
 
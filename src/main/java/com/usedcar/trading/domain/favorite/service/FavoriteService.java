@@ -5,9 +5,11 @@ import com.usedcar.trading.domain.favorite.repository.FavoriteRepository;
 import com.usedcar.trading.domain.user.entity.Role;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.domain.vehicle.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
+    private final TrendingService trendingService;
 
     /**
      * 찜 추가 [WISH-001]
@@ -56,6 +59,7 @@ public class FavoriteService {
                 .build();
 
         Favorite savedFavorite = favoriteRepository.save(favorite);
+        trendingService.recordFavorite(vehicleId);
         log.info("찜 추가: userId={}, vehicleId={}", userId, vehicleId);
 
         return savedFavorite;
@@ -87,6 +91,20 @@ public class FavoriteService {
         return favoriteRepository.findByUserUserId(userId);
     }
 
+    /**
+     * 내 찜 목록 카드 조회 (찜 목록 화면용)
+     */
+    public List<VehicleCard> getMyFavoriteCards(Long userId) {
+        return favoriteRepository.findCardsByUserId(userId);
+    }
+
+    /**
+     * 내가 찜한 매물 ID 목록
+     */
+    public List<Long> getMyFavoriteVehicleIds(Long userId) {
+        return favoriteRepository.findVehicleIdsByUserId(userId);
+    }
+
     /**
      * 찜 여부 확인
      */
@@ -94,6 +112,13 @@ public class FavoriteService {
         return favoriteRepository.existsByUserUserIdAndVehicleVehicleId(userId, vehicleId);
     }
 
+    /**
+     * 찜 여부 확인 (로그인 이메일 기준)
+     */
+    public boolean isFavoriteByEmail(String email, Long vehicleId) {
+        return favoriteRepository.existsByUserEmailAndVehicleVehicleId(email, vehicleId);
+    }
+
     /**
      * 매물 찜 개수 조회
      */
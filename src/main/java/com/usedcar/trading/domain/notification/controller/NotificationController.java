@@ -3,17 +3,22 @@ package com.usedcar.trading.domain.notification.controller;
 import com.usedcar.trading.domain.notification.entity.Notification;
 import com.usedcar.trading.domain.notification.service.NotificationService;
 import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.notification.service.NotificationPushService;
 import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.global.auth.security.PrincipalDetails;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -23,6 +28,7 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
     private final UserRepository userRepository;
 
     @GetMapping
@@ -82,6 +88,24 @@ public class NotificationController {
         return notificationService.getUnreadCount(user);
     }
 
+    /**
+     * 알림 실시간 수신 (SSE)
+     * - 세션의 로그인 정보만 사용 (연결마다 회원 조회를 하지 않음)
+     * - 연결 중에는 영속성 컨텍스트를 열어 두지 않는다 (WebMvcConfig 참고)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream(@AuthenticationPrincipal Object principal, HttpServletResponse response) {
+        if (!(principal instanceof PrincipalDetails)) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        User user = ((PrincipalDetails) principal).getUser();
+
+        // 프록시(nginx)가 이벤트를 모아서 보내지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationPushService.subscribe(user.getUserId(), notificationService.getUnreadCount(user));
+    }
+
     private User findUser(Object principal) {
         if (principal instanceof UserDetails) {
             String email = ((UserDetails) principal).getUsername();
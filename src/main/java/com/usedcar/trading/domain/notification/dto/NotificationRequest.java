@@ -0,0 +1,18 @@
+package com.usedcar.trading.domain.notification.dto;
+
+import com.usedcar.trading.domain.notification.entity.NotificationType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 알림 요청 한 건 (수신자는 id 만 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationRequest {
+
+    private final Long userId;
+    private final NotificationType type;
+    private final String message;
+    private final String link;
+}
@@ -6,6 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {
+        // 안 읽은 수 COUNT 와 안 읽은 목록 (created_at 정렬) 을 인덱스만으로 처리
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -35,6 +39,11 @@ public class Notification extends BaseEntity {
     @Builder.Default
     private boolean isRead = false;
 
+    // 합쳐진 이벤트 수 (NotificationCoalescing, message 는 마지막 이벤트 내용)
+    @Builder.Default
+    @Column(nullable = false)
+    private int eventCount = 1;
+
     public void markAsRead() {
         this.isRead = true;
     }
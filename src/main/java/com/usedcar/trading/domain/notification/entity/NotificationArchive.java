@@ -0,0 +1,48 @@
+package com.usedcar.trading.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 알림 (오래된 읽은 알림)
+ * - NotificationRetentionJob 이 Notification 에서 옮겨 온다. id 는 원래 알림의 id 그대로 사용
+ * - 화면에서는 조회하지 않고, 문의 대응 등 이력 확인용으로만 남긴다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_notification_archive_created", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationArchive {
+
+    @Id
+    private Long notificationId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    private String link;
+
+    private int eventCount;
+
+    private LocalDateTime createdAt;
+
+    // 읽은 시각 (원래 알림의 마지막 수정 시각)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,25 @@
+package com.usedcar.trading.domain.notification.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 같은 회원 / 종류 / 링크 알림을 하나로 합치는 방식
+ * - 창 안에 만들어진 안 읽은 알림이 있으면 새 행을 만들지 않고 건수(eventCount)만 올린다.
+ */
+public enum NotificationCoalescing {
+
+    NONE,   // 매번 새 알림
+    BURST,  // 10분 안에 몰린 알림을 하나로
+    DAILY;  // 하루치를 하나로 (일일 요약)
+
+    private static final long BURST_MINUTES = 10;
+
+    // 합칠 수 있는 기존 알림의 최소 생성 시각 (NONE 이면 null)
+    public LocalDateTime windowStart(LocalDateTime eventTime) {
+        return switch (this) {
+            case NONE -> null;
+            case BURST -> eventTime.minusMinutes(BURST_MINUTES);
+            case DAILY -> eventTime.toLocalDate().atStartOfDay();
+        };
+    }
+}
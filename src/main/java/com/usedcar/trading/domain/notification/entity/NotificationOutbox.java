@@ -0,0 +1,55 @@
+package com.usedcar.trading.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 대기열 (트랜잭셔널 아웃박스)
+ * - 업무 트랜잭션 안에서는 이 행만 기록하고, Notification 행은 NotificationDispatcher 가 모아서 만든다.
+ * - 업무 트랜잭션이 롤백되면 이 행도 함께 사라지므로 알림만 남는 일이 없다.
+ * - 발송에 계속 실패한 행은 지우지 않고 attempts 를 올려 남겨 둔다 (한도에 닿으면 더 이상 시도하지 않음).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    // 발송 시점에 User 를 다시 읽지 않도록 id 만 보관
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    private String link;
+
+    // 이벤트 발생 시각 (알림의 생성 시각으로 그대로 사용)
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발송 실패 횟수 (NotificationDispatcher.MAX_ATTEMPTS 이상이면 dead letter)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    // 마지막 실패 사유
+    @Column(length = 500)
+    private String lastError;
+}
@@ -0,0 +1,9 @@
+package com.usedcar.trading.domain.notification.event;
+
+/**
+ * 알림 아웃박스 기록 이벤트
+ *
+ * 커밋 직후 NotificationDispatcher 를 깨우는 용도 (내용은 아웃박스 테이블에서 읽음)
+ */
+public class NotificationQueuedEvent {
+}
@@ -0,0 +1,18 @@
+package com.usedcar.trading.domain.notification.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 읽음 처리로 안 읽은 알림 수가 바뀐 이벤트
+ *
+ * 커밋 이후 접속 중인 화면(SSE)에 변경분을 보내는 데 사용 (reset 이면 0 으로 맞춤)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UnreadCountChangedEvent {
+
+    private final Long userId;
+    private final long delta;
+    private final boolean reset;
+}
@@ -0,0 +1,7 @@
+package com.usedcar.trading.domain.notification.repository;
+
+import com.usedcar.trading.domain.notification.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+}
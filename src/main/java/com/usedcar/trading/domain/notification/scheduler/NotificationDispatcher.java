@@ -0,0 +1,309 @@
+package com.usedcar.trading.domain.notification.scheduler;
+
+import com.usedcar.trading.domain.notification.entity.NotificationType;
+import com.usedcar.trading.domain.notification.event.NotificationQueuedEvent;
+import com.usedcar.trading.domain.notification.service.NotificationPushService;
+import com.usedcar.trading.domain.notification.service.UnreadCountCache;
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 아웃박스 발송
+ * - 아웃박스 행을 id 순서로 묶어 읽고, 한 트랜잭션에서 아웃박스 삭제 + Notification INSERT 를 JDBC 배치로 처리한다.
+ * - 알림이 기록된 트랜잭션이 커밋되면 바로 깨어나고, 놓친 것은 주기 실행이 처리한다.
+ * - 삭제된 행만 알림으로 만들기 때문에 여러 곳에서 동시에 돌아도 중복 발송되지 않는다.
+ * - 일시적인 DB 오류면 행을 그대로 두고 다음 실행에 다시 시도한다. 그 외 실패는 attempts 를 올리고,
+ *   무결성 위반처럼 다시 해도 안 되는 행은 바로 한도까지 올려 dead letter 로 남긴다 (삭제하지 않음).
+ * - 합치는 종류(NotificationType.coalescing)는 같은 회원 / 종류 / 링크끼리 묶어,
+ *   창 안의 안 읽은 알림이 있으면 건수만 올리고 없으면 건수를 담아 한 행만 만든다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    // 한 트랜잭션에서 처리할 건수 / 한 번 실행에 처리할 최대 배치 수
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    // 이 횟수만큼 실패한 행은 더 이상 읽지 않음 (원인 확인 후 attempts 를 0 으로 돌리면 재발송)
+    static final int MAX_ATTEMPTS = 5;
+
+    private static final String SELECT_SQL =
+            "SELECT outbox_id, user_id, notification_type, title, message, link, created_at, attempts"
+                    + " FROM notification_outbox WHERE attempts < ? ORDER BY outbox_id LIMIT ?";
+    private static final String FAIL_SQL =
+            "UPDATE notification_outbox SET attempts = ?, last_error = ? WHERE outbox_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE outbox_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, notification_type, title, message, link, event_count, is_read, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)";
+    // 창 안의 가장 최근 안 읽은 알림 (idx_notification_user_read_created 사용)
+    // MySQL 은 UPDATE 대상 테이블을 같은 문장의 서브쿼리에서 읽을 수 없으므로(1093) 조회와 갱신을 나눈다
+    private static final String MERGE_TARGET_SQL =
+            "SELECT MAX(notification_id) FROM notification"
+                    + " WHERE user_id = ? AND is_read = FALSE AND created_at >= ? AND notification_type = ? AND link = ?";
+    // 그 사이 읽음 처리되었으면 0 건 -> 새 알림으로 만든다
+    private static final String MERGE_SQL =
+            "UPDATE notification SET event_count = event_count + ?, message = ?, updated_at = ?"
+                    + " WHERE notification_id = ? AND is_read = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationPushService notificationPushService;
+    private final Executor executor;
+
+    // 발송 예약 여부 (커밋이 몰려도 실행은 한 번만 예약)
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+
+    public NotificationDispatcher(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  UnreadCountCache unreadCountCache,
+                                  NotificationPushService notificationPushService,
+                                  @Qualifier("notificationDispatchExecutor") Executor executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.unreadCountCache = unreadCountCache;
+        this.notificationPushService = notificationPushService;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQueued(NotificationQueuedEvent event) {
+        if (!wakeRequested.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            // 실행 도중 커밋된 알림은 다시 예약되도록 시작하면서 해제
+            wakeRequested.set(false);
+            dispatch();
+        });
+    }
+
+    // 커밋 직후 깨우는 경로는 서버마다 그대로 두고, 주기 실행만 한 서버에서
+    @Scheduled(fixedDelay = 5000)
+    @SchedulerLock(name = "notification-dispatch", lockAtMostMillis = 60_000, lockAtLeastMillis = 4000)
+    public void poll() {
+        dispatch();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        dispatch();
+    }
+
+    /**
+     * 쌓인 아웃박스를 배치 단위로 발송
+     * @return 처리한 알림 요청 수 (합쳐진 것 포함)
+     */
+    public synchronized int dispatch() {
+        int total = 0;
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<Entry> batch = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Entry(
+                    rs.getLong("outbox_id"),
+                    rs.getLong("user_id"),
+                    rs.getString("notification_type"),
+                    rs.getString("title"),
+                    rs.getString("message"),
+                    rs.getString("link"),
+                    rs.getTimestamp("created_at"),
+                    rs.getInt("attempts")), MAX_ATTEMPTS, BATCH_SIZE);
+            if (batch.isEmpty()) break;
+
+            List<Group> delivered;
+            try {
+                delivered = transactionTemplate.execute(status -> deliver(batch));
+            } catch (DataAccessException e) {
+                if (isTransient(e)) {
+                    // 커넥션 끊김, 락 대기 초과 등은 행을 그대로 두고 다음 실행에서 다시 시도
+                    log.warn("알림 배치 발송 일시 실패, 다음 실행에 재시도: {}", e.getMessage());
+                    break;
+                }
+                // 한 건 때문에 배치 전체가 막히지 않도록 한 건씩 다시 시도
+                log.warn("알림 배치 발송 실패, 개별 처리로 전환: {}", e.getMessage());
+                delivered = deliverOneByOne(batch);
+            }
+            push(delivered);
+            total += delivered.stream().mapToInt(group -> group.count).sum();
+            if (batch.size() < BATCH_SIZE) break;
+        }
+        if (total > 0) log.debug("알림 발송: {}건", total);
+        return total;
+    }
+
+    // 아웃박스에서 지운 행만 알림으로 만든다 (다른 곳에서 먼저 지웠으면 건너뜀)
+    private List<Group> deliver(List<Entry> batch) {
+        List<Object[]> deleteArgs = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            deleteArgs.add(new Object[]{entry.outboxId});
+        }
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, deleteArgs);
+
+        // 배치 안에서 먼저 묶음 (합치지 않는 종류는 한 건씩)
+        Map<Object, Group> groups = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (deleted[i] == 0) continue;
+            Entry entry = batch.get(i);
+            Object key = entry.windowStart == null ? entry.outboxId : List.of(entry.userId, entry.notificationType, entry.link);
+            groups.computeIfAbsent(key, k -> new Group(entry)).add(entry);
+        }
+
+        // 기존 알림에 합치기 (대상이 있는 묶음만 배치 UPDATE)
+        List<Group> mergeable = new ArrayList<>();
+        List<Object[]> mergeArgs = new ArrayList<>();
+        for (Group group : groups.values()) {
+            Entry first = group.first;
+            if (first.windowStart == null) continue;
+            Long targetId = jdbcTemplate.queryForObject(MERGE_TARGET_SQL, Long.class,
+                    first.userId, first.windowStart, first.notificationType, first.link);
+            if (targetId == null) continue;
+            mergeable.add(group);
+            mergeArgs.add(new Object[]{group.count, group.last.message, group.last.createdAt, targetId});
+        }
+        if (!mergeable.isEmpty()) {
+            int[] merged = jdbcTemplate.batchUpdate(MERGE_SQL, mergeArgs);
+            for (int i = 0; i < mergeable.size(); i++) {
+                mergeable.get(i).merged = merged[i] > 0;
+            }
+        }
+
+        // 나머지는 새 알림 (안 읽은 수는 새로 만든 행만큼만 증가)
+        List<Object[]> insertArgs = new ArrayList<>(groups.size());
+        Map<Long, Long> countsByUser = new HashMap<>();
+        for (Group group : groups.values()) {
+            if (group.merged) continue;
+            Entry first = group.first;
+            insertArgs.add(new Object[]{first.userId, first.notificationType, first.title, group.last.message,
+                    first.link, group.count, first.createdAt, group.last.createdAt});
+            countsByUser.merge(first.userId, 1L, Long::sum);
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, insertArgs);
+        }
+        countsByUser.forEach(unreadCountCache::adjustAfterCommit);
+        return new ArrayList<>(groups.values());
+    }
+
+    private List<Group> deliverOneByOne(List<Entry> batch) {
+        List<Group> delivered = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            try {
+                delivered.addAll(transactionTemplate.execute(status -> deliver(List.of(entry))));
+            } catch (DataAccessException e) {
+                if (isTransient(e)) {
+                    log.warn("알림 발송 일시 실패, 다음 실행에 재시도: outboxId={}, {}", entry.outboxId, e.getMessage());
+                    break;
+                }
+                recordFailure(entry, e);
+            }
+        }
+        return delivered;
+    }
+
+    // 실패 기록 (탈퇴한 회원 등 무결성 위반은 다시 해도 실패하므로 바로 한도까지 올림)
+    private void recordFailure(Entry entry, DataAccessException e) {
+        int attempts = e instanceof DataIntegrityViolationException ? MAX_ATTEMPTS : entry.attempts + 1;
+        String error = e.getClass().getSimpleName() + ": " + e.getMostSpecificCause().getMessage();
+        if (attempts >= MAX_ATTEMPTS) {
+            log.error("알림 발송 포기(dead letter): outboxId={}, userId={}, {}", entry.outboxId, entry.userId, error);
+        } else {
+            log.warn("알림 발송 실패 {}/{}: outboxId={}, {}", attempts, MAX_ATTEMPTS, entry.outboxId, error);
+        }
+
+        try {
+            jdbcTemplate.update(FAIL_SQL, attempts, error.length() > 500 ? error.substring(0, 500) : error, entry.outboxId);
+        } catch (DataAccessException ex) {
+            // 기록하지 못해도 행은 남아 있으므로 다음 실행에서 다시 시도됨
+            log.warn("알림 발송 실패 기록 실패: outboxId={}, {}", entry.outboxId, ex.getMessage());
+        }
+    }
+
+    private static boolean isTransient(DataAccessException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    // 커밋된 알림을 이 서버에 접속 중인 화면으로 전송 (merged 이면 화면의 안 읽은 수는 그대로)
+    private void push(List<Group> delivered) {
+        for (Group group : delivered) {
+            Entry last = group.last;
+            if (!notificationPushService.isSubscribed(last.userId)) continue;
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("type", last.notificationType);
+            payload.put("title", last.title);
+            payload.put("message", last.message);
+            payload.put("link", last.link);
+            payload.put("count", group.count);
+            payload.put("merged", group.merged);
+            payload.put("createdAt", last.createdAt.toLocalDateTime().toString());
+            notificationPushService.pushNotification(last.userId, payload);
+        }
+    }
+
+    private static class Entry {
+        private final long outboxId;
+        private final long userId;
+        private final String notificationType;
+        private final String title;
+        private final String message;
+        private final String link;
+        private final Timestamp createdAt;
+        private final int attempts;
+        // 합칠 수 있는 기존 알림의 최소 생성 시각 (합치지 않는 종류 / 링크 없음이면 null)
+        private final Timestamp windowStart;
+
+        private Entry(long outboxId, long userId, String notificationType, String title,
+                      String message, String link, Timestamp createdAt, int attempts) {
+            this.outboxId = outboxId;
+            this.userId = userId;
+            this.notificationType = notificationType;
+            this.title = title;
+            this.message = message;
+            this.link = link;
+            this.createdAt = createdAt;
+            this.attempts = attempts;
+
+            LocalDateTime start = link == null ? null
+                    : NotificationType.valueOf(notificationType).getCoalescing().windowStart(createdAt.toLocalDateTime());
+            this.windowStart = start == null ? null : Timestamp.valueOf(start);
+        }
+    }
+
+    private static class Group {
+        private final Entry first;
+        private Entry last;
+        private int count;
+        private boolean merged;
+
+        private Group(Entry first) {
+            this.first = first;
+        }
+
+        private void add(Entry entry) {
+            last = entry;
+            count++;
+        }
+    }
+}
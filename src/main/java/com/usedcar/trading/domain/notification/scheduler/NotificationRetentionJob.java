@@ -0,0 +1,135 @@
+package com.usedcar.trading.domain.notification.scheduler;
+
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 보관 / 정리 작업
+ * - 읽은 지 오래된 알림을 notification_archive 로 옮겨 notification 테이블에는 최근 알림만 남긴다.
+ * - 보관 기간이 지난 보관 알림은 삭제한다.
+ * - notification_id 순서의 키셋으로 조금씩 나눠 짧은 트랜잭션으로 처리하고, 묶음 사이에 쉬어 서비스 쿼리에 양보한다.
+ * - 안 읽은 알림은 옮기지 않는다. (안 읽은 수 / 캐시 값이 바뀌지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final long PAUSE_MILLIS = 200;
+    // 한 번 실행 시간 상한 (남은 것은 다음 실행에서 이어서 처리)
+    private static final long MAX_RUN_MILLIS = 10 * 60 * 1000L;
+
+    // 후보만 잠금 없이 고른다 (FOR UPDATE 는 PK 를 훑으며 안 읽은 알림까지 잠가 읽음 처리 / 묶음 갱신을 막는다)
+    private static final String SELECT_ARCHIVE_SQL =
+            "SELECT notification_id FROM notification"
+                    + " WHERE notification_id > ? AND is_read = TRUE AND created_at < ?"
+                    + " ORDER BY notification_id LIMIT ?";
+    // 복사 / 삭제는 후보 id 로 PK 만 짚고 조건을 다시 확인하므로 조건에 맞는 행만 건드린다
+    private static final String COPY_SQL =
+            "INSERT INTO notification_archive"
+                    + " (notification_id, user_id, notification_type, title, message, link, event_count, created_at, updated_at, archived_at)"
+                    + " SELECT notification_id, user_id, notification_type, title, message, link, event_count, created_at, updated_at, ?"
+                    + " FROM notification WHERE notification_id IN (%s) AND is_read = TRUE AND created_at < ?";
+    // 보관 테이블에 복사된 행만 지운다
+    private static final String DELETE_SQL =
+            "DELETE FROM notification WHERE notification_id IN (%s) AND is_read = TRUE AND created_at < ?"
+                    + " AND notification_id IN (SELECT notification_id FROM notification_archive WHERE notification_id IN (%s))";
+    private static final String SELECT_PURGE_SQL =
+            "SELECT notification_id FROM notification_archive WHERE created_at < ? LIMIT ?";
+    private static final String PURGE_SQL = "DELETE FROM notification_archive WHERE notification_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 읽은 알림을 보관 테이블로 옮기는 기준 / 보관 알림을 지우는 기준 (생성일 기준)
+    @Value("${notification.retention.archive-after-days:30}")
+    private int archiveAfterDays;
+
+    @Value("${notification.retention.purge-after-days:365}")
+    private int purgeAfterDays;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @SchedulerLock(name = "notification-retention", lockAtMostMillis = 15 * 60_000, lockAtLeastMillis = 5 * 60_000)
+    public void run() {
+        long deadline = System.currentTimeMillis() + MAX_RUN_MILLIS;
+        try {
+            int archived = archive(LocalDateTime.now().minusDays(archiveAfterDays), deadline);
+            int purged = purge(LocalDateTime.now().minusDays(purgeAfterDays), deadline);
+            log.info("알림 정리: 보관 {}건, 삭제 {}건", archived, purged);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 읽은 알림을 보관 테이블로 이동
+     * @return 옮긴 건수
+     */
+    public int archive(LocalDateTime createdBefore, long deadline) throws InterruptedException {
+        Timestamp cutoff = Timestamp.valueOf(createdBefore);
+        long lastId = 0;
+        int total = 0;
+
+        while (System.currentTimeMillis() < deadline) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_ARCHIVE_SQL, Long.class, lastId, cutoff, CHUNK_SIZE);
+            if (ids.isEmpty()) break;
+
+            String in = placeholders(ids.size());
+            List<Object> copyArgs = new ArrayList<>(ids.size() + 2);
+            copyArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+            copyArgs.addAll(ids);
+            copyArgs.add(cutoff);
+
+            List<Object> deleteArgs = new ArrayList<>(ids.size() * 2 + 1);
+            deleteArgs.addAll(ids);
+            deleteArgs.add(cutoff);
+            deleteArgs.addAll(ids);
+
+            total += transactionTemplate.execute(status -> {
+                jdbcTemplate.update(String.format(COPY_SQL, in), copyArgs.toArray());
+                return jdbcTemplate.update(String.format(DELETE_SQL, in, in), deleteArgs.toArray());
+            });
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < CHUNK_SIZE) break;
+            Thread.sleep(PAUSE_MILLIS);
+        }
+        return total;
+    }
+
+    /**
+     * 보관 기간이 지난 보관 알림 삭제
+     * @return 삭제한 건수
+     */
+    public int purge(LocalDateTime createdBefore, long deadline) throws InterruptedException {
+        Timestamp cutoff = Timestamp.valueOf(createdBefore);
+        int total = 0;
+
+        while (System.currentTimeMillis() < deadline) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_PURGE_SQL, Long.class, cutoff, CHUNK_SIZE);
+            if (ids.isEmpty()) break;
+
+            total += transactionTemplate.execute(status ->
+                    jdbcTemplate.update(String.format(PURGE_SQL, placeholders(ids.size())), ids.toArray()));
+            if (ids.size() < CHUNK_SIZE) break;
+            Thread.sleep(PAUSE_MILLIS);
+        }
+        return total;
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,189 @@
+package com.usedcar.trading.domain.notification.service;
+
+import com.usedcar.trading.domain.notification.event.UnreadCountChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 SSE 구독자 목록 (서버별)
+ * - 연결은 서블릿 비동기 요청으로 유지되므로 대기 중에는 스레드 / DB 커넥션을 잡지 않는다.
+ * - 새 알림과 안 읽은 수 변경분을 커밋 이후에 이 서버에 접속한 화면으로 보낸다.
+ *   (다른 서버에 접속한 화면은 다음 화면 이동 때 헤더 숫자로 반영됨)
+ * - 실제 쓰기는 notificationPushExecutor 에서만 하므로 스케줄러 / 발송 스레드는 느린 연결에 묶이지 않는다.
+ *   연결마다 대기 이벤트가 한도를 넘거나 전송 스레드가 포화되면 그 연결을 닫는다 (브라우저가 다시 연결).
+ *
+ * 보내는 이벤트
+ * - unread : {"count": n} (접속 직후 / 모두 읽음) 또는 {"delta": n}
+ * - notification : {"type", "title", "message", "link", "count", "merged", "createdAt"}
+ *   (merged 가 아니면 안 읽은 수 +1)
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    // 만료되면 브라우저(EventSource)가 자동으로 다시 연결
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    // 한 회원이 동시에 열 수 있는 창 수 (넘으면 가장 오래된 연결을 닫음)
+    private static final int MAX_EMITTERS_PER_USER = 5;
+    // 연결별로 쌓아 둘 수 있는 미전송 이벤트 수 (넘으면 따라오지 못하는 연결로 보고 닫음)
+    private static final int MAX_PENDING_EVENTS = 32;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    public NotificationPushService(@Qualifier("notificationPushExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Long userId, long unreadCount) {
+        Connection connection = new Connection(userId, new SseEmitter(TIMEOUT_MILLIS));
+        // 목록이 비어 제거되는 것과 겹치지 않도록 compute 안에서 추가
+        List<Connection> userConnections = connections.compute(userId, (id, list) -> {
+            List<Connection> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(connection);
+            return target;
+        });
+        while (userConnections.size() > MAX_EMITTERS_PER_USER && userConnections.get(0) != connection) {
+            close(userConnections.remove(0));
+        }
+
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        enqueue(connection, SseEmitter.event().name("unread").data(Map.of("count", unreadCount), MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+
+    public boolean isSubscribed(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    public void pushNotification(Long userId, Map<String, Object> notification) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) return;
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event().name("notification").data(notification, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        List<Connection> userConnections = connections.get(event.getUserId());
+        if (userConnections == null) return;
+        Map<String, Long> data = event.isReset() ? Map.of("count", 0L) : Map.of("delta", event.getDelta());
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event().name("unread").data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * 프록시 / 로드밸런서의 유휴 연결 끊김 방지 + 끊긴 연결 정리 (주석 한 줄만 보냄)
+     * - 이 서버에 붙은 연결이 대상이라 서버마다 실행
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        connections.forEach((userId, userConnections) -> {
+            for (Connection connection : userConnections) {
+                enqueue(connection, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    // 호출한 스레드에서는 큐에 넣기만 하고, 연결마다 전송 작업은 하나만 올린다
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) return;
+        if (!connection.pending.offer(event)) {
+            log.debug("SSE 미전송 이벤트 초과, 연결 정리: userId={}", connection.userId);
+            close(connection);
+            return;
+        }
+        if (!connection.draining.compareAndSet(false, true)) return;
+
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // draining 을 이미 잡았으므로 전송 중인 작업 없이 바로 닫을 수 있음
+            log.debug("SSE 전송 스레드 포화, 연결 정리: userId={}", connection.userId);
+            connection.closed = true;
+            remove(connection);
+            connection.pending.clear();
+            connection.emitter.complete();
+        }
+    }
+
+    private void drain(Connection connection) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = connection.pending.poll()) != null) {
+                if (connection.closed) break;
+                try {
+                    connection.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 브라우저가 이미 닫힌 경우 (draining 을 풀지 않아 이후 전송도 올라가지 않음)
+                    log.debug("SSE 전송 실패, 연결 정리: userId={}", connection.userId);
+                    connection.closed = true;
+                    remove(connection);
+                    connection.pending.clear();
+                    connection.emitter.completeWithError(e);
+                    return;
+                }
+            }
+            if (connection.closed) {
+                connection.emitter.complete();
+                return;
+            }
+            connection.draining.set(false);
+            // 풀기 직전에 들어온 이벤트는 이 작업이 이어서 보냄
+        } while (!connection.pending.isEmpty() && connection.draining.compareAndSet(false, true));
+    }
+
+    // 전송 중인 연결은 그 전송 작업이 끝나면서 닫는다
+    // (emitter 는 send / complete 가 같은 락을 쓰므로, 쓰기가 막힌 연결을 여기서 닫으면 호출 스레드까지 묶임)
+    private void close(Connection connection) {
+        connection.closed = true;
+        remove(connection);
+        connection.pending.clear();
+        if (connection.draining.compareAndSet(false, true)) {
+            connection.emitter.complete();
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(MAX_PENDING_EVENTS);
+        // 전송 작업이 올라가 있거나 실행 중인지
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
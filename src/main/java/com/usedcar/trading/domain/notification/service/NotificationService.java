@@ -1,17 +1,27 @@
 package com.usedcar.trading.domain.notification.service;
 
+import com.usedcar.trading.domain.notification.dto.NotificationRequest;
 import com.usedcar.trading.domain.notification.entity.Notification;
+import com.usedcar.trading.domain.notification.entity.NotificationOutbox;
 import com.usedcar.trading.domain.notification.entity.NotificationType;
+import com.usedcar.trading.domain.notification.event.NotificationQueuedEvent;
+import com.usedcar.trading.domain.notification.event.UnreadCountChangedEvent;
+import com.usedcar.trading.domain.notification.repository.NotificationOutboxRepository;
 import com.usedcar.trading.domain.notification.repository.NotificationRepository;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -20,26 +30,58 @@ import java.util.List;
 @Slf4j
 public class NotificationService {
 
+    private static final String OUTBOX_INSERT_SQL =
+            "INSERT INTO notification_outbox (user_id, notification_type, title, message, link, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)";
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final UserRepository userRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 알림 요청 (호출한 트랜잭션 안에서 아웃박스에만 기록)
+     * - 실제 Notification 행은 커밋 후 NotificationDispatcher 가 묶어서 만든다.
+     */
     @Transactional
-    public Notification createNotification(User user, NotificationType type, String message, String link) {
-        Notification notification = Notification.builder()
-                .user(user)
+    public void createNotification(User user, NotificationType type, String message, String link) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .userId(user.getUserId())
                 .notificationType(type)
                 .title(type.getTitle())
                 .message(message)
                 .link(link)
-                .build();
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        log.debug("알림 요청: userId={}, type={}", user.getUserId(), type);
+        eventPublisher.publishEvent(new NotificationQueuedEvent());
+    }
 
-        log.info("알림 생성: userId={}, type={}, message={}", user.getUserId(), type, message);
-        return notificationRepository.save(notification);
+    @Transactional
+    public void createNotification(User user, NotificationType type, String link) {
+        createNotification(user, type, type.getDefaultMessage(), link);
     }
 
+    /**
+     * 여러 건을 JDBC 배치 한 번으로 아웃박스에 기록 (스케줄러 등 대량 발송용)
+     */
     @Transactional
-    public Notification createNotification(User user, NotificationType type, String link) {
-        return createNotification(user, type, type.getDefaultMessage(), link);
+    public void createNotifications(List<NotificationRequest> requests) {
+        if (requests.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(requests.size());
+        for (NotificationRequest request : requests) {
+            args.add(new Object[]{request.getUserId(), request.getType().name(), request.getType().getTitle(),
+                    request.getMessage(), request.getLink(), now});
+        }
+        jdbcTemplate.batchUpdate(OUTBOX_INSERT_SQL, args);
+
+        log.debug("알림 일괄 요청: {}건", requests.size());
+        eventPublisher.publishEvent(new NotificationQueuedEvent());
     }
 
     public Page<Notification> getNotifications(User user, Pageable pageable) {
@@ -50,8 +92,9 @@ public class NotificationService {
         return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
     }
 
+    // 매 화면 헤더에서 호출되므로 캐시 사용 (없을 때만 COUNT)
     public long getUnreadCount(User user) {
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        return unreadCountCache.get(user.getUserId());
     }
 
     @Transactional
@@ -63,11 +106,16 @@ public class NotificationService {
             throw new IllegalStateException("본인의 알림만 읽음 처리할 수 있습니다.");
         }
 
+        if (notification.isRead()) return;
         notification.markAsRead();
+        unreadCountCache.adjustAfterCommit(user.getUserId(), -1);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(user.getUserId(), -1, false));
     }
 
     @Transactional
     public int markAllAsRead(User user) {
+        unreadCountCache.invalidateAfterCommit(user.getUserId());
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(user.getUserId(), 0, true));
         return notificationRepository.markAllAsRead(user);
     }
 }
@@ -0,0 +1,140 @@
+package com.usedcar.trading.domain.notification.service;
+
+import com.usedcar.trading.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 안 읽은 알림 수 캐시
+ * - 없거나 오래된 값만 DB 에서 COUNT 하고, 이후에는 알림 생성 / 읽음 처리 시점에 값을 고친다.
+ * - 변경은 커밋 이후에 반영하고, 변경이 진행 중인 회원은 새로 읽은 값을 캐시에 넣지 않는다.
+ *   (커밋 전 값을 읽어 넣은 뒤 증가분이 누락되거나, 커밋 후 값에 증가분이 한 번 더 더해지는 것을 막음)
+ * - 다른 서버에서 일어난 변경은 반영되지 않으므로 TTL 로 최대 오차 시간을 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCountCache {
+
+    private static final int MAX_USERS = 10_000;
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public long get(Long userId) {
+        long now = System.currentTimeMillis();
+        Slot slot;
+        long stamp;
+        while (true) {
+            slot = slots.computeIfAbsent(userId, id -> new Slot());
+            synchronized (slot) {
+                if (slot.evicted) continue;
+                slot.lastAccess = now;
+                if (slot.count >= 0 && now - slot.loadedAt < TTL_MILLIS) return slot.count;
+                stamp = slot.stamp;
+            }
+            break;
+        }
+
+        long count = notificationRepository.countByUserUserIdAndIsReadFalse(userId);
+        synchronized (slot) {
+            if (slot.inFlight == 0 && slot.stamp == stamp) {
+                slot.count = count;
+                slot.loadedAt = now;
+            }
+        }
+        if (slots.size() > MAX_USERS) evict();
+        return count;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 delta 만큼 반영 (알림 생성 +n, 읽음 처리 -1)
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        track(userId, delta, false);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 캐시 값을 버림 (모두 읽음 등 변경량을 알 수 없을 때)
+     */
+    public void invalidateAfterCommit(Long userId) {
+        track(userId, 0, true);
+    }
+
+    private void track(Long userId, long delta, boolean invalidate) {
+        Slot slot = begin(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖이면 이미 반영된 변경
+            end(slot, delta, invalidate, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                end(slot, delta, invalidate, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private Slot begin(Long userId) {
+        while (true) {
+            Slot slot = slots.computeIfAbsent(userId, id -> new Slot());
+            synchronized (slot) {
+                if (slot.evicted) continue;
+                slot.inFlight++;
+                slot.stamp++;
+                return slot;
+            }
+        }
+    }
+
+    private void end(Slot slot, long delta, boolean invalidate, boolean committed) {
+        synchronized (slot) {
+            slot.inFlight--;
+            slot.stamp++;
+            if (!committed || slot.count < 0) return;
+            slot.count = invalidate ? -1 : Math.max(0, slot.count + delta);
+        }
+    }
+
+    // 가장 오래 조회되지 않은 회원부터 1/10 정리 (변경 진행 중인 항목은 남김)
+    private synchronized void evict() {
+        if (slots.size() <= MAX_USERS) return;
+
+        // 정렬 중에 값이 바뀌지 않도록 조회 시각을 먼저 복사
+        List<Map.Entry<Long, Long>> accessed = new ArrayList<>(slots.size());
+        slots.forEach((userId, slot) -> accessed.add(Map.entry(userId, slot.lastAccess)));
+        accessed.sort(Map.Entry.comparingByValue());
+
+        int target = MAX_USERS - MAX_USERS / 10;
+        for (Map.Entry<Long, Long> entry : accessed) {
+            if (slots.size() <= target) break;
+            Slot slot = slots.get(entry.getKey());
+            if (slot == null) continue;
+            synchronized (slot) {
+                if (slot.inFlight > 0) continue;
+                slot.evicted = true;
+                slots.remove(entry.getKey(), slot);
+            }
+        }
+    }
+
+    private static class Slot {
+        // -1 이면 모름 (다음 조회 시 DB 에서 읽음)
+        private long count = -1;
+        private long loadedAt;
+        private volatile long lastAccess;
+        // 커밋 대기 중인 변경 수 / 변경 시작·종료마다 증가
+        private int inFlight;
+        private long stamp;
+        private boolean evicted;
+    }
+}
@@ -9,8 +9,10 @@ import com.usedcar.trading.domain.report.repository.ReportRepository;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +29,7 @@ public class ReportService {
     private final UserRepository userRepository;
     private final VehicleRepository vehicleRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 신고 등록 [RPT-001]
@@ -90,6 +93,7 @@ public class ReportService {
             if (vehicle != null) {
                 String sanctionReason = "신고 누적/확인으로 인한 판매 중지: " + memo;
                 vehicle.reject(sanctionReason, admin);
+                eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getVehicleId()));
 
                 log.info("신고 승인으로 인한 매물 판매 중지(REJECTED): vehicleId={}", vehicle.getVehicleId());
             }
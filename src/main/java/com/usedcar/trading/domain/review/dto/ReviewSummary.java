@@ -0,0 +1,18 @@
+package com.usedcar.trading.domain.review.dto;
+
+import lombok.Getter;
+
+/**
+ * 업체 리뷰 집계 (개수 + 평균 평점, 한 번의 쿼리로 조회)
+ */
+@Getter
+public class ReviewSummary {
+
+    private final long reviewCount;
+    private final double averageRating;
+
+    public ReviewSummary(Long reviewCount, Double averageRating) {
+        this.reviewCount = reviewCount != null ? reviewCount : 0L;
+        this.averageRating = averageRating != null ? averageRating : 0.0;
+    }
+}
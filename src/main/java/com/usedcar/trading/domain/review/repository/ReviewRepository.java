@@ -1,5 +1,6 @@
 package com.usedcar.trading.domain.review.repository;
 
+import com.usedcar.trading.domain.review.dto.ReviewSummary;
 import com.usedcar.trading.domain.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -47,5 +48,18 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Page<Review> findByCompanyCompanyId(Long companyId, Pageable pageable);
 
+    // 업체 리뷰 개수 + 평균 평점 (상세 페이지용 단일 집계 쿼리)
+    @Query("SELECT new com.usedcar.trading.domain.review.dto.ReviewSummary(COUNT(r), AVG(r.rating)) " +
+            "FROM Review r WHERE r.company.companyId = :companyId")
+    ReviewSummary findSummaryByCompanyId(@Param("companyId") Long companyId);
+
+    // 업체 리뷰 한 페이지 (작성자, 거래 매물까지 한 번에 조회, COUNT 쿼리 없음)
+    // mappedBy 쪽 1:1 (User.employee/company, Transaction.settlement) 은 지연 로딩이 안 되므로 함께 fetch
+    @Query("SELECT r FROM Review r " +
+            "JOIN FETCH r.user u LEFT JOIN FETCH u.employee LEFT JOIN FETCH u.company " +
+            "JOIN FETCH r.transaction t LEFT JOIN FETCH t.settlement JOIN FETCH t.vehicle " +
+            "WHERE r.company.companyId = :companyId")
+    List<Review> findWithDetailsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
     Page<Review> findByUserUserId(Long userId, Pageable pageable);
 }
@@ -4,6 +4,7 @@ import com.usedcar.trading.domain.company.entity.Company;
 import com.usedcar.trading.domain.company.repository.CompanyRepository;
 import com.usedcar.trading.domain.notification.entity.NotificationType;
 import com.usedcar.trading.domain.notification.service.NotificationService;
+import com.usedcar.trading.domain.review.dto.ReviewSummary;
 import com.usedcar.trading.domain.review.entity.Review;
 import com.usedcar.trading.domain.review.repository.ReviewRepository;
 import com.usedcar.trading.domain.transaction.entity.Transaction;
@@ -146,6 +147,20 @@ public class ReviewService {
         return reviewRepository.findByCompanyCompanyId(companyId, pageable);
     }
 
+    /**
+     * 업체 리뷰 집계 (개수 + 평균 평점)
+     */
+    public ReviewSummary getCompanyReviewSummary(Long companyId) {
+        return reviewRepository.findSummaryByCompanyId(companyId);
+    }
+
+    /**
+     * 업체 리뷰 한 페이지 내용 (COUNT 쿼리 없음, 전체 개수는 getCompanyReviewSummary 사용)
+     */
+    public List<Review> getCompanyReviewList(Long companyId, Pageable pageable) {
+        return reviewRepository.findWithDetailsByCompanyId(companyId, pageable);
+    }
+
     public Page<Review> getUserReviews(Long userId, Pageable pageable) {
         return reviewRepository.findByUserUserId(userId, pageable);
     }
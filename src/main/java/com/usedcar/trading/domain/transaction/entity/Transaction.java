@@ -8,11 +8,13 @@ import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.global.audit.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_vehicle_status", columnList = "vehicle_id, transaction_status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -23,6 +25,12 @@ public class Transaction extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long transactionId;
 
+    // 낙관적 락 (승인 / 취소 / 완료가 동시에 일어나면 나중 커밋이 실패)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,6 +26,11 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     // 자동차 거래 내역
     List<Transaction> findByVehicle(Vehicle vehicle);
 
+    // 여러 매물의 거래 내역 한 번에 (판매자 대시보드 현재 페이지용, 1:1 정산/리뷰도 함께)
+    @Query("SELECT t FROM Transaction t LEFT JOIN FETCH t.settlement LEFT JOIN FETCH t.review " +
+            "WHERE t.vehicle.vehicleId IN :vehicleIds")
+    List<Transaction> findWithDetailsByVehicleIdIn(@Param("vehicleIds") Collection<Long> vehicleIds);
+
     // 자동차 거래 횟수
     long countByVehicle(Vehicle vehicle);
 
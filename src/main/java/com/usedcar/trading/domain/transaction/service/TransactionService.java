@@ -11,14 +11,21 @@ import com.usedcar.trading.domain.transaction.repository.TransactionRepository;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.domain.vehicle.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +37,12 @@ public class TransactionService {
     private final VehicleRepository vehicleRepository;
     private final SettlementRepository settlementRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 버전 충돌 시 재시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
 
     // 거래 요청 (구매자)
     public Long requestTransaction(Long vehicleId, User buyer) {
@@ -62,6 +75,7 @@ public class TransactionService {
                 .build();
 
         Long txnId = transactionRepository.save(transaction).getTransactionId();
+        trendingService.recordTransactionRequest(vehicleId);
 
         // 판매자(담당 딜러)에게 알림 발송
         User dealer = vehicle.getRegisteredBy().getUser();
@@ -86,25 +100,31 @@ public class TransactionService {
     }
 
     // 거래 승인 (판매자)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void approveTransaction(Long transactionId, User seller) {
+        retryOnConflict(() -> doApproveTransaction(transactionId, seller));
+    }
+
+    private void doApproveTransaction(Long transactionId, User seller) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역이 없습니다."));
 
         validateSeller(transaction, seller);
 
-        if (transaction.getVehicle().getVehicleStatus() != VehicleStatus.SALE) {
-            throw new IllegalStateException("이미 예약되었거나 판매된 차량이라 승인할 수 없습니다.");
-        }
-
         if (transaction.getTransactionStatus() != TransactionStatus.REQUESTED) {
             throw new IllegalStateException("대기 상태의 거래만 승인할 수 있습니다.");
         }
 
-        // 1. 거래 상태 승인으로 변경
-        transaction.updateStatus(TransactionStatus.APPROVED);
+        // 1. 매물 예약 (SALE 일 때만 한 문장으로 변경, 먼저 예약한 거래가 있으면 0 건)
+        Long vehicleId = transaction.getVehicle().getVehicleId();
+        if (vehicleRepository.changeStatusIf(vehicleId, VehicleStatus.SALE, VehicleStatus.RESERVED) == 0) {
+            throw new IllegalStateException("이미 예약되었거나 판매된 차량이라 승인할 수 없습니다.");
+        }
 
-        // 2. 매물 상태 예약중으로 변경
-        transaction.getVehicle().changeStatus(VehicleStatus.RESERVED);
+        // 2. 거래 상태 승인으로 변경 (그 사이 취소되었으면 버전 충돌로 예약까지 롤백)
+        transaction.updateStatus(TransactionStatus.APPROVED);
+        transactionRepository.saveAndFlush(transaction);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
 
         notificationService.createNotification(
                 transaction.getBuyer(),
@@ -115,7 +135,12 @@ public class TransactionService {
     }
 
     // 거래 거부 (판매자)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void rejectTransaction(Long transactionId, User seller) {
+        retryOnConflict(() -> doRejectTransaction(transactionId, seller));
+    }
+
+    private void doRejectTransaction(Long transactionId, User seller) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역이 없습니다."));
 
@@ -125,7 +150,9 @@ public class TransactionService {
             throw new IllegalStateException("대기 상태의 거래만 거부할 수 있습니다.");
         }
 
+        // 그 사이 구매자가 취소했으면 버전 충돌 -> 재시도에서 상태 검사로 걸러짐
         transaction.updateStatus(TransactionStatus.REJECTED);
+        transactionRepository.saveAndFlush(transaction);
 
         notificationService.createNotification(
                 transaction.getBuyer(),
@@ -136,7 +163,12 @@ public class TransactionService {
     }
 
     // 거래 취소 (구매자/판매자 모두 가능)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelTransaction(Long transactionId, User user) {
+        retryOnConflict(() -> doCancelTransaction(transactionId, user));
+    }
+
+    private void doCancelTransaction(Long transactionId, User user) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역이 없습니다."));
 
@@ -151,10 +183,15 @@ public class TransactionService {
             throw new IllegalStateException("이미 완료된 거래는 취소할 수 없습니다.");
         }
 
+        TransactionStatus previous = transaction.getTransactionStatus();
         transaction.updateStatus(TransactionStatus.CANCELLED);
+        transactionRepository.saveAndFlush(transaction);
 
-        if (transaction.getVehicle().getVehicleStatus() == VehicleStatus.RESERVED) {
-            transaction.getVehicle().changeStatus(VehicleStatus.SALE);
+        // 승인된 거래였을 때만 예약 해제 (다른 구매자에게 잡힌 예약은 건드리지 않음)
+        Long vehicleId = transaction.getVehicle().getVehicleId();
+        if (previous == TransactionStatus.APPROVED
+                && vehicleRepository.changeStatusIf(vehicleId, VehicleStatus.RESERVED, VehicleStatus.SALE) > 0) {
+            eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
         }
 
         User targetUser = isBuyer ? transaction.getVehicle().getRegisteredBy().getUser() : transaction.getBuyer();
@@ -169,7 +206,12 @@ public class TransactionService {
     }
 
     // 거래 완료 (판매자 -> 차량 인도 완료)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void completeTransaction(Long transactionId, User seller) {
+        retryOnConflict(() -> doCompleteTransaction(transactionId, seller));
+    }
+
+    private void doCompleteTransaction(Long transactionId, User seller) {
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new IllegalArgumentException("거래 내역이 없습니다."));
 
@@ -183,9 +225,14 @@ public class TransactionService {
 
         // 3. 거래 상태 변경
         transaction.updateStatus(TransactionStatus.COMPLETED);
+        transactionRepository.saveAndFlush(transaction);
 
-        // 4. 매물 상태 변경
-        transaction.getVehicle().changeStatus(VehicleStatus.SOLD);
+        // 4. 매물 상태 변경 (예약중일 때만)
+        Long vehicleId = transaction.getVehicle().getVehicleId();
+        if (vehicleRepository.changeStatusIf(vehicleId, VehicleStatus.RESERVED, VehicleStatus.SOLD) == 0) {
+            throw new IllegalStateException("예약중인 차량만 판매 완료 처리할 수 있습니다.");
+        }
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
 
         // 5. 정산 데이터 자동 생성
         createSettlement(transaction);
@@ -225,6 +272,31 @@ public class TransactionService {
         settlementRepository.save(settlement);
     }
 
+    /**
+     * 버전 충돌(다른 요청이 같은 거래 / 매물을 먼저 변경)이면 새 트랜잭션에서 처음부터 다시 확인
+     * - 상태가 이미 바뀌었으면 재시도 중 검증 단계에서 IllegalStateException 으로 끝난다.
+     * - 충돌 예외는 트랜잭션 안에서(saveAndFlush) 나도록 해서 롤백 시 영속성 컨텍스트도 비워지게 한다.
+     */
+    private void retryOnConflict(Runnable work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> work.run());
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new IllegalStateException("다른 요청과 동시에 처리되어 실패했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.debug("거래 처리 버전 충돌, 재시도 {}/{}", attempt, MAX_ATTEMPTS);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(10, 50));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("거래 처리가 중단되었습니다.");
+                }
+            }
+        }
+    }
+
     private void validateSeller(Transaction transaction, User seller) {
         if (!transaction.getCompany().getOwner().getUserId().equals(seller.getUserId())) {
             throw new IllegalArgumentException("해당 거래를 승인/거부할 권한이 없습니다.");
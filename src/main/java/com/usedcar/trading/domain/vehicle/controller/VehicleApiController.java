@@ -0,0 +1,55 @@
+package com.usedcar.trading.domain.vehicle.controller;
+
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCursor;
+import com.usedcar.trading.domain.vehicle.dto.VehicleFacetResponse;
+import com.usedcar.trading.domain.vehicle.dto.VehicleScrollResponse;
+import com.usedcar.trading.domain.vehicle.dto.VehicleSearchCondition;
+import com.usedcar.trading.domain.vehicle.search.VehicleSearchIndex;
+import com.usedcar.trading.domain.vehicle.service.VehicleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class VehicleApiController {
+
+    private final VehicleService vehicleService;
+    private final VehicleSearchIndex vehicleSearchIndex;
+
+    // 커서 기반 매물 스크롤 API (무한 스크롤용)
+    // 요청 주소: /api/vehicles/scroll?order=latest&size=9&cursor=...&keyword=...
+    @GetMapping("/api/vehicles/scroll")
+    public ResponseEntity<VehicleScrollResponse> scrollVehicles(@ModelAttribute VehicleSearchCondition condition,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) String order,
+                                                                @RequestParam(defaultValue = "9") int size) {
+
+        VehicleCursor current = VehicleCursor.decode(cursor, VehicleCursor.Order.from(order));
+        Slice<VehicleCard> slice = vehicleService.scrollVehicles(condition, current, size);
+
+        VehicleScrollResponse response = VehicleScrollResponse.builder()
+                .vehicles(slice.getContent())
+                .nextCursor(vehicleService.nextCursor(current.getOrder(), slice))
+                .hasNext(slice.hasNext())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 검색 조건별 패싯 개수 API (필터 사이드바용)
+    // 요청 주소: /api/vehicles/facets?keyword=...&fuelTypes=DIESEL
+    @GetMapping("/api/vehicles/facets")
+    public ResponseEntity<VehicleFacetResponse> facets(@ModelAttribute VehicleSearchCondition condition) {
+        if (!vehicleSearchIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(vehicleSearchIndex.facets(condition));
+    }
+}
@@ -1,18 +1,24 @@
 package com.usedcar.trading.domain.vehicle.controller;
 
 import com.usedcar.trading.domain.favorite.service.FavoriteService;
+import com.usedcar.trading.domain.review.dto.ReviewSummary;
 import com.usedcar.trading.domain.review.entity.Review;
 import com.usedcar.trading.domain.review.service.ReviewService;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
 import com.usedcar.trading.domain.vehicle.dto.VehicleRegisterRequest;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
 import com.usedcar.trading.domain.vehicle.service.VehicleService;
+import com.usedcar.trading.global.page.PageAssembler;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,6 +31,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Controller
@@ -37,6 +44,7 @@ public class VehicleController {
     private final UserRepository userRepository;
     private final FavoriteService favoriteService;
     private final ReviewService reviewService;
+    private final PageAssembler pageAssembler;
 
     // 매물 등록 페이지
     @GetMapping("/register")
@@ -75,6 +83,24 @@ public class VehicleController {
         return null;
     }
 
+    // 고유 방문자 키: 회원 > 세션 > IP 순
+    private String viewerKey(Object principal, HttpServletRequest request) {
+        if (principal instanceof UserDetails) {
+            return "u:" + ((UserDetails) principal).getUsername();
+        } else if (principal instanceof OAuth2User) {
+            return "o:" + ((OAuth2User) principal).getName();
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+
+        // X-Forwarded-For 는 클라이언트가 마음대로 보낼 수 있으므로 직접 읽지 않는다
+        // 프록시 뒤에서는 server.forward-headers-strategy 로 신뢰할 수 있는 프록시만 풀어서 remoteAddr 에 반영된다
+        return "ip:" + request.getRemoteAddr();
+    }
+
     // 매물 상세 조회
     @GetMapping("/{id}")
     public String vehicleDetail(@PathVariable Long id,
@@ -82,40 +108,31 @@ public class VehicleController {
                                 @RequestParam(defaultValue = "0") int reviewPage,
                                 @CookieValue(value = "recent_cars", required = false) String cookieValue,
                                 @AuthenticationPrincipal Object principal,
+                                HttpServletRequest request,
                                 HttpServletResponse response) {
 
-        vehicleService.increaseViewCount(id);
-
-        Vehicle vehicle = vehicleRepository.findById(id)
+        // 매물 + 이미지 + 업체/대표 + 등록 직원을 한 번에 조회 (렌더링 중 지연 로딩 방지)
+        Vehicle vehicle = vehicleRepository.findDetailById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 매물이 존재하지 않습니다. id=" + id));
 
-        model.addAttribute("car", vehicle);
-
-        if (vehicle.getCompany() != null) {
-            Long companyId = vehicle.getCompany().getCompanyId();
-
-            // 페이징: 5개씩, 최신순
-            Page<Review> reviewList = reviewService.getCompanyReviews(
-                    companyId,
-                    PageRequest.of(reviewPage, 5, Sort.by(Sort.Direction.DESC, "createdAt"))
-            );
-
-            model.addAttribute("sellerReviews", reviewList);
-            model.addAttribute("reviewPage", reviewPage);
-
-            // 평점 평균 및 개수
-            model.addAttribute("avgRating", reviewService.getCompanyAverageRating(companyId));
-            model.addAttribute("reviewCount", reviewService.getCompanyReviewCount(companyId));
-        }
+        vehicleService.increaseViewCount(id, viewerKey(principal, request));
 
-        boolean isFavorite = false;
-        if (principal != null) {
-            User user = findUser(principal);
-            if (user != null) {
-                isFavorite = favoriteService.isFavorite(user.getUserId(), id);
-            }
-        }
-        model.addAttribute("isFavorite", isFavorite);
+        model.addAttribute("car", vehicle);
+        model.addAttribute("viewCount", vehicleService.getViewCount(vehicle));
+
+        // 이하 서로 독립적인 조회는 동시에 실행 (리뷰 집계 / 리뷰 페이지 / 찜 여부 / 최근 본 차량)
+        Long companyId = vehicle.getCompany() != null ? vehicle.getCompany().getCompanyId() : null;
+        PageRequest reviewPageable = PageRequest.of(reviewPage, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        CompletableFuture<ReviewSummary> summaryFuture = companyId == null ? null :
+                pageAssembler.fork("reviewSummary", () -> reviewService.getCompanyReviewSummary(companyId),
+                        new ReviewSummary(0L, 0.0));
+        CompletableFuture<List<Review>> reviewsFuture = companyId == null ? null :
+                pageAssembler.fork("sellerReviews", () -> reviewService.getCompanyReviewList(companyId, reviewPageable),
+                        List.of());
+        CompletableFuture<Boolean> favoriteFuture = principal == null
+                ? CompletableFuture.completedFuture(false)
+                : pageAssembler.fork("isFavorite", () -> isFavorite(principal, id), false);
 
         List<Long> recentIds = new ArrayList<>();
         if (cookieValue != null && !cookieValue.isEmpty()) {
@@ -138,15 +155,34 @@ public class VehicleController {
         List<Long> idsToView = new ArrayList<>(recentIds);
         idsToView.remove(id);
 
-        List<Vehicle> recentCars = new ArrayList<>();
-        if (!idsToView.isEmpty()) {
-            recentCars = vehicleRepository.findAllById(idsToView);
+        CompletableFuture<List<VehicleCard>> recentCarsFuture = idsToView.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : pageAssembler.fork("recentCars", () -> vehicleRepository.findCardsByIdIn(idsToView), List.of());
+
+        if (companyId != null) {
+            // 페이징: 5개씩, 최신순 (전체 개수는 집계 결과 사용)
+            ReviewSummary summary = summaryFuture.join();
+            Page<Review> reviewList = new PageImpl<>(reviewsFuture.join(), reviewPageable, summary.getReviewCount());
+
+            model.addAttribute("sellerReviews", reviewList);
+            model.addAttribute("reviewPage", reviewPage);
+            model.addAttribute("avgRating", summary.getAverageRating());
+            model.addAttribute("reviewCount", summary.getReviewCount());
         }
-        model.addAttribute("recentCars", recentCars);
+        model.addAttribute("isFavorite", favoriteFuture.join());
+        model.addAttribute("recentCars", recentCarsFuture.join());
 
         return "vehicle-detail";
     }
 
+    private boolean isFavorite(Object principal, Long vehicleId) {
+        if (principal instanceof UserDetails) {
+            return favoriteService.isFavoriteByEmail(((UserDetails) principal).getUsername(), vehicleId);
+        }
+        User user = findUser(principal);
+        return user != null && favoriteService.isFavorite(user.getUserId(), vehicleId);
+    }
+
     @GetMapping("/{id}/edit")
     public String editPage(@PathVariable Long id, Model model, @AuthenticationPrincipal Object principal) {
         User user = findUser(principal);
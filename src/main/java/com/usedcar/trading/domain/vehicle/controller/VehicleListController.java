@@ -3,15 +3,18 @@ package com.usedcar.trading.domain.vehicle.controller;
 import com.usedcar.trading.domain.favorite.service.FavoriteService;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
-import com.usedcar.trading.domain.vehicle.entity.FuelType;
-import com.usedcar.trading.domain.vehicle.entity.Transmission;
-import com.usedcar.trading.domain.vehicle.entity.Vehicle;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCursor;
+import com.usedcar.trading.domain.vehicle.dto.VehicleSearchCondition;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.domain.vehicle.search.VehicleSearchIndex;
+import com.usedcar.trading.domain.vehicle.service.VehicleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,12 +22,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Controller
@@ -33,53 +38,79 @@ import java.util.stream.Collectors;
 public class VehicleListController {
 
     private final VehicleRepository vehicleRepository;
+    private final VehicleService vehicleService;
+    private final VehicleSearchIndex vehicleSearchIndex;
     private final FavoriteService favoriteService;
     private final UserRepository userRepository;
 
     // 매물 목록 조회 (그리드/리스트)
+    // cursor 파라미터가 있으면(빈 값 = 첫 페이지) OFFSET 대신 커서(키셋) 방식으로 조회
     @GetMapping
     public String vehicleList(Model model,
                               @RequestParam(required = false) String view,
-                              @RequestParam(required = false) String keyword,
-                              @RequestParam(required = false) BigDecimal minPrice,
-                              @RequestParam(required = false) BigDecimal maxPrice,
-                              @RequestParam(required = false) Integer minYear,
-                              @RequestParam(required = false) Integer maxYear,
-                              @RequestParam(required = false) Integer maxMileage,
-                              @RequestParam(required = false) List<FuelType> fuelTypes,
-                              @RequestParam(required = false) List<Transmission> transmissions,
+                              @ModelAttribute("condition") VehicleSearchCondition condition,
+                              @RequestParam(required = false) String cursor,
+                              @RequestParam(required = false) String order,
                               @AuthenticationPrincipal Object principal,
                               @PageableDefault(size = 9, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        List<Vehicle> filteredList;
-        if (keyword != null || minPrice != null || maxPrice != null ||
-                minYear != null || maxYear != null || maxMileage != null ||
-                (fuelTypes != null && !fuelTypes.isEmpty()) ||
-                (transmissions != null && !transmissions.isEmpty())) {
+        model.addAttribute("keyword", condition.getKeyword());
+        model.addAttribute("brand", condition.getBrand());
+        model.addAttribute("minPrice", condition.getMinPrice());
+        model.addAttribute("maxPrice", condition.getMaxPrice());
+        model.addAttribute("minYear", condition.getMinYear());
+        model.addAttribute("maxYear", condition.getMaxYear());
+        model.addAttribute("maxMileage", condition.getMaxMileage());
+        model.addAttribute("fuelTypes", condition.getFuelTypes());
+        model.addAttribute("transmissions", condition.getTransmissions());
+        model.addAttribute("viewType", view);
+        model.addAttribute("userFavoriteIds", findUserFavoriteIds(principal));
+        model.addAttribute("facets", vehicleSearchIndex.isReady() ? vehicleSearchIndex.facets(condition) : null);
 
-            filteredList = vehicleRepository.searchVehicles(
-                    keyword, minPrice, maxPrice, minYear, maxYear, maxMileage, fuelTypes, transmissions
-            );
-        } else {
-            filteredList = vehicleRepository.findByVehicleStatus(VehicleStatus.SALE);
-        }
+        String viewName = "list".equals(view) ? "vehicle-list" : "vehicle-grid";
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), filteredList.size());
-        List<Vehicle> pagedList = (start > filteredList.size()) ? List.of() : filteredList.subList(start, end);
+        if (cursor != null) {
+            VehicleCursor current = decodeOrFirst(cursor, VehicleCursor.Order.from(order));
+            Slice<VehicleCard> vehicleSlice = vehicleService.scrollVehicles(condition, current, pageable.getPageSize());
 
-        Page<Vehicle> vehiclePage = new PageImpl<>(pagedList, pageable, filteredList.size());
+            model.addAttribute("vehicles", vehicleSlice);
+            model.addAttribute("scrollMode", true);
+            model.addAttribute("order", current.getOrder().name().toLowerCase());
+            model.addAttribute("nextCursor", vehicleService.nextCursor(current.getOrder(), vehicleSlice));
+            return viewName;
+        }
 
-        model.addAttribute("vehicles", vehiclePage);
+        Page<VehicleCard> vehiclePage;
+        if (condition.getKeyword() != null || condition.getBrand() != null || condition.getMinPrice() != null || condition.getMaxPrice() != null ||
+                condition.getMinYear() != null || condition.getMaxYear() != null || condition.getMaxMileage() != null ||
+                condition.getFuelTypes() != null || condition.getTransmissions() != null) {
+
+            if (vehicleSearchIndex.isReady() && vehicleSearchIndex.supports(pageable.getSort())) {
+                // 인메모리 역색인으로 검색 후 해당 페이지 매물만 카드로 조회
+                // 인덱스는 서버별이라 다른 서버에서 판매 종료된 매물이 남아 있을 수 있으므로 SALE 만 다시 거른다
+                Page<Long> idPage = vehicleSearchIndex.search(condition, pageable);
+                Map<Long, VehicleCard> found = idPage.isEmpty() ? Map.of() :
+                        vehicleRepository.findCardsByIdInAndVehicleStatus(idPage.getContent(), VehicleStatus.SALE).stream()
+                                .collect(Collectors.toMap(VehicleCard::getVehicleId, c -> c));
+                List<VehicleCard> content = idPage.getContent().stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+                long stale = idPage.getNumberOfElements() - content.size();
+                vehiclePage = new PageImpl<>(content, pageable, idPage.getTotalElements() - stale);
+            } else {
+                vehiclePage = vehicleRepository.searchVehicleCards(
+                        condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                        condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                        condition.getFuelTypes(), condition.getTransmissions(), pageable
+                );
+            }
+        } else {
+            vehiclePage = vehicleRepository.findCardsByVehicleStatus(VehicleStatus.SALE, pageable);
+        }
 
-        model.addAttribute("keyword", keyword);
-        model.addAttribute("minPrice", minPrice);
-        model.addAttribute("maxPrice", maxPrice);
-        model.addAttribute("minYear", minYear);
-        model.addAttribute("maxYear", maxYear);
-        model.addAttribute("maxMileage", maxMileage);
-        model.addAttribute("fuelTypes", fuelTypes);
-        model.addAttribute("transmissions", transmissions);
+        model.addAttribute("vehicles", vehiclePage);
+        model.addAttribute("scrollMode", false);
 
         int totalPages = vehiclePage.getTotalPages();
         int nowPage = vehiclePage.getNumber() + 1;
@@ -91,24 +122,28 @@ public class VehicleListController {
         model.addAttribute("startPage", startPage);
         model.addAttribute("endPage", endPage);
         model.addAttribute("totalPages", totalPages);
-        model.addAttribute("viewType", view);
 
+        return viewName;
+    }
+
+    // 손상되었거나 오래된 커서는 오류 대신 첫 페이지부터 다시 보여준다
+    private VehicleCursor decodeOrFirst(String cursor, VehicleCursor.Order order) {
+        try {
+            return VehicleCursor.decode(cursor, order);
+        } catch (IllegalArgumentException e) {
+            return VehicleCursor.first(order);
+        }
+    }
+
+    private List<Long> findUserFavoriteIds(Object principal) {
         List<Long> userFavoriteIds = new ArrayList<>();
         if (principal != null) {
             User user = findUser(principal);
             if (user != null) {
-                userFavoriteIds = favoriteService.getMyFavorites(user.getUserId())
-                        .stream()
-                        .map(f -> f.getVehicle().getVehicleId())
-                        .collect(Collectors.toList());
+                userFavoriteIds = favoriteService.getMyFavoriteVehicleIds(user.getUserId());
             }
         }
-        model.addAttribute("userFavoriteIds", userFavoriteIds);
-
-        if ("list".equals(view)) {
-            return "vehicle-list";
-        }
-        return "vehicle-grid";
+        return userFavoriteIds;
     }
 
     private User findUser(Object principal) {
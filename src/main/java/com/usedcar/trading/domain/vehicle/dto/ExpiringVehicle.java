@@ -0,0 +1,23 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 처리 대상 매물 + 알림 받을 담당 딜러 / 업체 대표
+ *
+ * JPQL 생성자 표현식으로 조인 한 번에 읽는다. (매물마다 연관 엔티티를 지연 로딩하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ExpiringVehicle {
+
+    private Long vehicleId;
+    private LocalDateTime expirationDate;
+    private String model;
+    private Long dealerUserId;
+    private String dealerName;
+    private Long ownerUserId;
+}
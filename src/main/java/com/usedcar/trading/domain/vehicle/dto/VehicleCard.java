@@ -0,0 +1,35 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import com.usedcar.trading.domain.vehicle.entity.FuelType;
+import com.usedcar.trading.domain.vehicle.entity.Transmission;
+import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 매물 카드 DTO (목록/메인/찜 화면용)
+ *
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회한다.
+ * 영속성 컨텍스트에 엔티티를 올리지 않으므로 description, options, 연관 컬렉션 로딩과 dirty checking 이 없다.
+ */
+@Getter
+@AllArgsConstructor
+public class VehicleCard {
+
+    private Long vehicleId;
+    private String brand;
+    private String model;
+    private int modelYear;
+    private int mileage;
+    private BigDecimal price;
+    private FuelType fuelType;
+    private Transmission transmission;
+    private String color;
+    private String thumbnailUrl;
+    private int viewCount;
+    private VehicleStatus vehicleStatus;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,91 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(키셋) 페이징용 탐색 키
+ *
+ * 마지막으로 내려준 매물의 (정렬 값, vehicleId) 를 담아
+ * 다음 요청에서 OFFSET 없이 "그 다음 행"부터 바로 조회할 수 있게 한다.
+ * 클라이언트에는 Base64 로 인코딩된 불투명 문자열로만 노출된다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class VehicleCursor {
+
+    /**
+     * 커서 정렬 기준
+     * LATEST: (createdAt DESC, vehicleId DESC)
+     * PRICE : (price ASC, vehicleId ASC)
+     */
+    public enum Order {
+        LATEST, PRICE;
+
+        public static Order from(String value) {
+            if (value == null || value.isBlank()) return LATEST;
+            try {
+                return Order.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return LATEST;
+            }
+        }
+    }
+
+    // 첫 페이지 탐색용 경계 값 (모든 행이 이 값보다 "뒤"에 있도록)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final BigDecimal MIN_PRICE = BigDecimal.valueOf(-1);
+
+    private static final String DELIMITER = "|";
+
+    private final Order order;
+    private final LocalDateTime createdAt;
+    private final BigDecimal price;
+    private final Long vehicleId;
+
+    // 첫 페이지 커서
+    public static VehicleCursor first(Order order) {
+        return order == Order.PRICE
+                ? new VehicleCursor(order, null, MIN_PRICE, 0L)
+                : new VehicleCursor(order, MAX_CREATED_AT, null, Long.MAX_VALUE);
+    }
+
+    // 마지막 행 기준 다음 커서
+    public static VehicleCursor after(Order order, LocalDateTime createdAt, BigDecimal price, Long vehicleId) {
+        return order == Order.PRICE
+                ? new VehicleCursor(order, null, price, vehicleId)
+                : new VehicleCursor(order, createdAt, null, vehicleId);
+    }
+
+    public String encode() {
+        String key = order == Order.PRICE ? price.toPlainString() : createdAt.toString();
+        String raw = order.name() + DELIMITER + key + DELIMITER + vehicleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석. 비어 있으면 주어진 정렬 기준의 첫 페이지 커서를 반환한다.
+     */
+    public static VehicleCursor decode(String cursor, Order defaultOrder) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(defaultOrder);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            Order order = Order.valueOf(parts[0]);
+            Long vehicleId = Long.parseLong(parts[2]);
+            return order == Order.PRICE
+                    ? new VehicleCursor(order, null, new BigDecimal(parts[1]), vehicleId)
+                    : new VehicleCursor(order, LocalDateTime.parse(parts[1]), null, vehicleId);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다.");
+        }
+    }
+}
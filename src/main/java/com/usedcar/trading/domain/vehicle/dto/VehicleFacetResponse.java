@@ -0,0 +1,25 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 매물 검색 패싯(필터 사이드바 개수) 응답 DTO
+ *
+ * 구간 키는 "하한-상한" 형식 (하한 포함, 상한 미포함, 비어 있으면 열린 구간)
+ * 예) priceRanges: {"-10000000": 3, "10000000-20000000": 12, ..., "50000000-": 4}
+ */
+@Getter
+@Builder
+public class VehicleFacetResponse {
+
+    private long total;
+    private Map<String, Long> fuelTypes;
+    private Map<String, Long> transmissions;
+    private Map<String, Long> brands;
+    private Map<String, Long> priceRanges;
+    private Map<String, Long> yearRanges;
+    private Map<String, Long> mileageRanges;
+}
@@ -0,0 +1,20 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 매물 스크롤 응답 DTO
+ *
+ * nextCursor 를 그대로 다음 요청의 cursor 파라미터로 넘기면 이어서 조회된다.
+ */
+@Getter
+@Builder
+public class VehicleScrollResponse {
+
+    private List<VehicleCard> vehicles;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,49 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import com.usedcar.trading.domain.vehicle.entity.FuelType;
+import com.usedcar.trading.domain.vehicle.entity.Transmission;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 매물 검색 조건
+ *
+ * /vehicles 목록, 커서 기반 스크롤 API 에서 공통으로 사용하는 필터 값
+ */
+@Getter
+@Setter
+@ToString
+public class VehicleSearchCondition {
+    private String keyword;
+    private String brand;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer minYear;
+    private Integer maxYear;
+    private Integer maxMileage;
+    private List<FuelType> fuelTypes;
+    private List<Transmission> transmissions;
+
+    // 키워드는 앞뒤 공백을 떼고, 빈 값은 "조건 없음"
+    public String getKeyword() {
+        return (keyword == null || keyword.isBlank()) ? null : keyword.trim();
+    }
+
+    // 브랜드는 정확히 일치하는 값으로만 거르며, 빈 값은 "조건 없음"
+    public String getBrand() {
+        return (brand == null || brand.isBlank()) ? null : brand;
+    }
+
+    // 빈 리스트는 "조건 없음"으로 취급 (JPQL 의 IS NULL 비교를 위해 null 로 정규화)
+    public List<FuelType> getFuelTypes() {
+        return (fuelTypes == null || fuelTypes.isEmpty()) ? null : fuelTypes;
+    }
+
+    public List<Transmission> getTransmissions() {
+        return (transmissions == null || transmissions.isEmpty()) ? null : transmissions;
+    }
+}
@@ -0,0 +1,17 @@
+package com.usedcar.trading.domain.vehicle.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매물 ID + 버전
+ *
+ * 인메모리 검색 인덱스가 DB 와 어긋난 매물만 골라 다시 읽을 때 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class VehicleVersion {
+
+    private Long vehicleId;
+    private Long version;
+}
@@ -8,6 +8,7 @@ import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.global.audit.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,6 +16,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_vehicle_company_status", columnList = "company_id, vehicle_status"),
+        @Index(name = "idx_vehicle_registered_by_status", columnList = "registered_by, vehicle_status"),
+        @Index(name = "idx_vehicle_status_expiration", columnList = "vehicle_status, expiration_date"),
+        // 커서 스크롤의 키셋 정렬 (최신순 / 가격순), 최근 등록 매물 조회도 첫 번째 인덱스를 사용
+        @Index(name = "idx_vehicle_status_created", columnList = "vehicle_status, created_at, vehicle_id"),
+        @Index(name = "idx_vehicle_status_price", columnList = "vehicle_status, price, vehicle_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -25,6 +34,12 @@ public class Vehicle extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long vehicleId;
 
+    // 낙관적 락 (상태 변경이 동시에 일어나면 나중 커밋이 실패)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String brand;
 
@@ -62,9 +77,15 @@ public class Vehicle extends BaseEntity {
 
     private String options;
 
+    // 조회수/고유 방문자 수는 JDBC 일괄 UPDATE 로만 갱신 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
     @Builder.Default
+    @Column(updatable = false)
     private int viewCount = 0;
 
+    @Builder.Default
+    @Column(updatable = false)
+    private int uniqueViewCount = 0;
+
     private String thumbnailUrl;
 
     private LocalDateTime approvedAt;
@@ -147,10 +168,6 @@ public class Vehicle extends BaseEntity {
         this.vehicleStatus = status;
     }
 
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
     private LocalDateTime expirationDate;
 
     public void extendExpirationDate() {
@@ -178,4 +195,4 @@ public class Vehicle extends BaseEntity {
     public void setRegisteredBy(Employee employee) {
         this.registeredBy = employee;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
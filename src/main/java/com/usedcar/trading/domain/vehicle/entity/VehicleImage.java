@@ -18,10 +18,20 @@ public class VehicleImage {
     @JoinColumn(name = "vehicle_id", nullable = false)
     private Vehicle vehicle;
 
+    // 원본
     private String imageUrl;
 
+    // 원본 파일 SHA-256 (StoredFile 참조 수 관리용)
+    @Column(length = 64)
+    private String contentHash;
+
+    // 리사이즈 사본 (비동기 생성 전에는 null, 화면에서는 원본으로 대체)
     private String thumbnailUrl;
 
+    private String cardUrl;
+
+    private String detailUrl;
+
     private int displayOrder;
 
     public void setVehicle(Vehicle vehicle) {
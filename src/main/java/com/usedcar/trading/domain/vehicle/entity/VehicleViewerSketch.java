@@ -0,0 +1,31 @@
+package com.usedcar.trading.domain.vehicle.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매물별 고유 방문자 HyperLogLog 레지스터 저장
+ * - Vehicle 조회 시 함께 읽히지 않도록 별도 테이블로 분리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class VehicleViewerSketch {
+
+    @Id
+    private Long vehicleId;
+
+    @Column(nullable = false, length = 512)
+    private byte[] registers;
+
+    private LocalDateTime updatedAt;
+
+    public void update(byte[] registers) {
+        this.registers = registers;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,16 @@
+package com.usedcar.trading.domain.vehicle.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매물 상태/정보 변경 이벤트
+ *
+ * 트랜잭션 커밋 이후 검색 인덱스 등 메모리 캐시를 갱신하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class VehicleChangedEvent {
+
+    private final Long vehicleId;
+}
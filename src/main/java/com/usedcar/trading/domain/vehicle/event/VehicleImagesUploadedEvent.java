@@ -0,0 +1,16 @@
+package com.usedcar.trading.domain.vehicle.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매물 사진 업로드 이벤트
+ *
+ * 트랜잭션 커밋 이후 리사이즈 사본 생성을 시작하는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class VehicleImagesUploadedEvent {
+
+    private final Long vehicleId;
+}
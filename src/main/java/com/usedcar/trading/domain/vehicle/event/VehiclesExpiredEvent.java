@@ -0,0 +1,18 @@
+package com.usedcar.trading.domain.vehicle.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매물 일괄 만료 이벤트
+ *
+ * 만료 작업이 묶음 단위로 발행 (매물마다 VehicleChangedEvent 로 다시 조회하지 않고 검색 인덱스에서 바로 제거)
+ */
+@Getter
+@RequiredArgsConstructor
+public class VehiclesExpiredEvent {
+
+    private final List<Long> vehicleIds;
+}
@@ -0,0 +1,20 @@
+package com.usedcar.trading.domain.vehicle.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매물 사진 리사이즈 규격 (가로 px 기준)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageSize {
+
+    THUMBNAIL("thumb", 320, 0.75f),  // 상세 페이지 하단 썸네일, 사이드바
+    CARD("card", 640, 0.8f),         // 목록/메인 카드
+    DETAIL("detail", 1280, 0.85f);   // 상세 페이지 메인 슬라이드
+
+    private final String suffix;
+    private final int width;
+    private final float quality;
+}
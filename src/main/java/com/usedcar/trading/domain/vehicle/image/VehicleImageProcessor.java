@@ -0,0 +1,232 @@
+package com.usedcar.trading.domain.vehicle.image;
+
+import com.usedcar.trading.domain.vehicle.entity.VehicleImage;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
+import com.usedcar.trading.domain.vehicle.event.VehicleImagesUploadedEvent;
+import com.usedcar.trading.domain.vehicle.repository.VehicleImageRepository;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.global.storage.service.FileStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 매물 사진 리사이즈 사본 생성
+ * - 커밋 이후 별도 스레드 풀에서 썸네일 / 카드 / 상세 크기 JPEG 를 만든다.
+ * - 만들어지기 전이나 디코딩할 수 없는 형식이면 화면은 원본을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+public class VehicleImageProcessor {
+
+    // 헤더에 선언된 픽셀 수가 이보다 크면 디코딩하지 않는다 (작은 파일로 수 GB 를 할당시키는 압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    // 가장 큰 사본 폭, 이보다 큰 원본은 건너뛰며 읽어 전체 해상도 비트맵을 만들지 않는다
+    private static final int MAX_VARIANT_WIDTH = ImageSize.DETAIL.getWidth();
+
+    private final VehicleImageRepository vehicleImageRepository;
+    private final VehicleRepository vehicleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileStorageService fileStorageService;
+    private final Executor executor;
+
+    public VehicleImageProcessor(VehicleImageRepository vehicleImageRepository,
+                                 VehicleRepository vehicleRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 FileStorageService fileStorageService,
+                                 @Qualifier("imageProcessingExecutor") Executor executor) {
+        this.vehicleImageRepository = vehicleImageRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.fileStorageService = fileStorageService;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener
+    public void onImagesUploaded(VehicleImagesUploadedEvent event) {
+        executor.execute(() -> process(event.getVehicleId()));
+    }
+
+    private void process(Long vehicleId) {
+        List<VehicleImage> images = vehicleImageRepository.findByVehicleVehicleIdOrderByDisplayOrderAsc(vehicleId);
+
+        for (VehicleImage image : images) {
+            if (image.getDetailUrl() != null) continue;
+
+            try {
+                Variants variants = createVariants(image.getImageUrl());
+                if (variants == null) continue;
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    int updated = vehicleImageRepository.updateVariants(image.getImageId(), image.getImageUrl(),
+                            variants.thumbnailUrl, variants.cardUrl, variants.detailUrl);
+
+                    // 대표 사진이면 목록 카드가 카드 크기 사본을 쓰도록 교체
+                    if (updated > 0 && image.getDisplayOrder() == 0) {
+                        vehicleRepository.replaceThumbnailUrl(vehicleId, image.getImageUrl(), variants.cardUrl);
+                        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("사진 리사이즈 실패: vehicleId={}, image={}, {}", vehicleId, image.getImageUrl(), e.getMessage());
+            }
+        }
+    }
+
+    // 원본(/uploads/ab/cd/<hash>.xxx) 옆에 크기별 JPEG 사본을 저장하고 웹 경로를 돌려준다
+    // 같은 내용의 원본은 사본도 같은 파일을 공유하므로 이미 있으면 다시 만들지 않는다
+    private Variants createVariants(String imageUrl) throws IOException {
+        Path original = fileStorageService.resolve(imageUrl);
+        String filename = original.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        String base = dot > 0 ? filename.substring(0, dot) : filename;
+        String urlDir = imageUrl.substring(0, imageUrl.lastIndexOf('/') + 1);
+
+        Variants variants = new Variants();
+        variants.thumbnailUrl = urlDir + variantName(base, ImageSize.THUMBNAIL);
+        variants.cardUrl = urlDir + variantName(base, ImageSize.CARD);
+        variants.detailUrl = urlDir + variantName(base, ImageSize.DETAIL);
+
+        Path dir = original.getParent();
+        boolean exists = true;
+        for (ImageSize size : ImageSize.values()) {
+            exists &= Files.exists(dir.resolve(variantName(base, size)));
+        }
+        if (exists) return variants;
+
+        BufferedImage source = decode(original, imageUrl);
+        if (source == null) return null;
+        for (ImageSize size : ImageSize.values()) {
+            write(source, size, dir.resolve(variantName(base, size)));
+        }
+        return variants;
+    }
+
+    // 헤더로 크기를 먼저 확인하고, 큰 원본은 사본 폭에 맞춰 서브샘플링해서 읽는다
+    private BufferedImage decode(Path original, String imageUrl) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.info("리사이즈 불가 형식, 원본 사용: {}", imageUrl);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.info("원본 크기 초과, 원본 사용: {} ({}x{})", imageUrl, width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / MAX_VARIANT_WIDTH);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String variantName(String base, ImageSize size) {
+        return base + "_" + size.getSuffix() + ".jpg";
+    }
+
+    private void write(BufferedImage source, ImageSize size, Path target) throws IOException {
+        BufferedImage resized = resize(source, size.getWidth());
+
+        // 같은 원본을 공유하는 매물이 동시에 처리될 수 있어 임시 파일에 쓴 뒤 옮긴다
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(size.getQuality());
+            writer.write(null, new IIOImage(resized, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 가로 기준 축소 (확대하지 않음), 큰 폭으로 줄일 때는 절반씩 나눠 줄여 화질 유지
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int finalWidth = Math.min(targetWidth, width);
+        int finalHeight = Math.max(1, (int) Math.round((double) height * finalWidth / width));
+
+        BufferedImage current = toRgb(source);
+        while (width / 2 >= finalWidth) {
+            width /= 2;
+            height = Math.max(1, height / 2);
+            current = draw(current, width, height);
+        }
+        if (width != finalWidth) {
+            current = draw(current, finalWidth, finalHeight);
+        }
+        return current;
+    }
+
+    // JPEG 는 알파 채널을 지원하지 않으므로 RGB 로 변환
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) return source;
+        return draw(source, source.getWidth(), source.getHeight());
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static class Variants {
+        private String thumbnailUrl;
+        private String cardUrl;
+        private String detailUrl;
+    }
+}
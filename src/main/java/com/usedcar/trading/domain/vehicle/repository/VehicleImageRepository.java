@@ -2,12 +2,31 @@ package com.usedcar.trading.domain.vehicle.repository;
 
 import com.usedcar.trading.domain.vehicle.entity.VehicleImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface VehicleImageRepository extends JpaRepository<VehicleImage, Long> {
 
     List<VehicleImage> findByVehicleVehicleIdOrderByDisplayOrderAsc(Long vehicleId);
+
+    // 업로드 정리 작업: 주어진 경로 중 하나라도 사용하는 사진 (원본 / 사본)
+    @Query("SELECT i FROM VehicleImage i " +
+            "WHERE i.imageUrl IN :urls OR i.thumbnailUrl IN :urls OR i.cardUrl IN :urls OR i.detailUrl IN :urls")
+    List<VehicleImage> findReferencing(@Param("urls") Collection<String> urls);
+
+    // 리사이즈 사본 경로 반영 (원본이 그대로일 때만)
+    @Modifying
+    @Query("UPDATE VehicleImage i SET i.thumbnailUrl = :thumbnailUrl, i.cardUrl = :cardUrl, i.detailUrl = :detailUrl " +
+            "WHERE i.imageId = :imageId AND i.imageUrl = :imageUrl")
+    int updateVariants(@Param("imageId") Long imageId,
+                       @Param("imageUrl") String imageUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("cardUrl") String cardUrl,
+                       @Param("detailUrl") String detailUrl);
 }
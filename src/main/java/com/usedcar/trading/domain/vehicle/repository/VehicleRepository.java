@@ -3,18 +3,27 @@ package com.usedcar.trading.domain.vehicle.repository;
 import com.usedcar.trading.domain.company.entity.Company;
 import com.usedcar.trading.domain.employee.entity.Employee;
 import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.vehicle.dto.ExpiringVehicle;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.dto.VehicleVersion;
 import com.usedcar.trading.domain.vehicle.entity.FuelType;
 import com.usedcar.trading.domain.vehicle.entity.Transmission;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
@@ -47,6 +56,41 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     List<Vehicle> findByCompanyAndVehicleStatus(Company company, VehicleStatus status);
     List<Vehicle> findByCompanyAndVehicleStatusIn(Company company, List<VehicleStatus> statuses);
 
+    /**
+     * 판매자 대시보드 (상태 필터 / 우선순위 정렬 / 페이징을 DB 에서 처리)
+     * - 우선순위: 구매 요청 있음(1) > 승인된 거래 있음(2) > 판매중(3) > 기타(4) > 판매완료(5)
+     * - status 가 null 이면 전체, requestedOnly 면 구매 요청이 들어온 매물만
+     */
+    String DASHBOARD_HAS_REQUEST = "EXISTS (SELECT 1 FROM Transaction rt WHERE rt.vehicle = v " +
+            "AND rt.transactionStatus = com.usedcar.trading.domain.transaction.entity.TransactionStatus.REQUESTED) ";
+
+    String DASHBOARD_FILTER = "AND (:status IS NULL OR v.vehicleStatus = :status) " +
+            "AND (:requestedOnly = false OR " + DASHBOARD_HAS_REQUEST + ") ";
+
+    // 거래 상태는 매물당 한 번의 집계 서브쿼리로, 없으면 매물 상태로 결정
+    String DASHBOARD_ORDER = "ORDER BY COALESCE(" +
+            "(SELECT MIN(CASE t.transactionStatus " +
+            "WHEN com.usedcar.trading.domain.transaction.entity.TransactionStatus.REQUESTED THEN 1 " +
+            "WHEN com.usedcar.trading.domain.transaction.entity.TransactionStatus.APPROVED THEN 2 END) " +
+            "FROM Transaction t WHERE t.vehicle = v), " +
+            "CASE v.vehicleStatus " +
+            "WHEN com.usedcar.trading.domain.vehicle.entity.VehicleStatus.SALE THEN 3 " +
+            "WHEN com.usedcar.trading.domain.vehicle.entity.VehicleStatus.SOLD THEN 5 ELSE 4 END), v.vehicleId";
+
+    @Query(value = "SELECT v FROM Vehicle v WHERE v.company.companyId = :companyId " + DASHBOARD_FILTER + DASHBOARD_ORDER,
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.company.companyId = :companyId " + DASHBOARD_FILTER)
+    Page<Vehicle> findSalesDashboardByCompany(@Param("companyId") Long companyId,
+                                              @Param("status") VehicleStatus status,
+                                              @Param("requestedOnly") boolean requestedOnly,
+                                              Pageable pageable);
+
+    @Query(value = "SELECT v FROM Vehicle v WHERE v.registeredBy.employeeId = :employeeId " + DASHBOARD_FILTER + DASHBOARD_ORDER,
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.registeredBy.employeeId = :employeeId " + DASHBOARD_FILTER)
+    Page<Vehicle> findSalesDashboardByEmployee(@Param("employeeId") Long employeeId,
+                                               @Param("status") VehicleStatus status,
+                                               @Param("requestedOnly") boolean requestedOnly,
+                                               Pageable pageable);
+
     /**
      * 범위 조회
      */
@@ -92,6 +136,14 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     // 인기순 (조회수 높은순)
     List<Vehicle> findByVehicleStatusOrderByViewCountDesc(VehicleStatus status);
 
+    // 최신 등록순 상위 N개 카드 (N = pageable.pageSize, COUNT 쿼리 없음)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE v.vehicleStatus = :status ORDER BY v.createdAt DESC, v.vehicleId DESC")
+    List<VehicleCard> findRecentCards(@Param("status") VehicleStatus status, Pageable pageable);
+
+    // 인기 상위 N개 카드 (고유 방문자 추정치 우선, 동률이면 조회수)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE v.vehicleStatus = :status ORDER BY v.uniqueViewCount DESC, v.viewCount DESC, v.vehicleId DESC")
+    List<VehicleCard> findPopularCards(@Param("status") VehicleStatus status, Pageable pageable);
+
     /**
      * 개수
      */
@@ -110,19 +162,24 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     /**
      * 그외 복합 검색 조건
      */
-    // 복합 검색: 브랜드 + 가격대 + 연식 + 주행거리 등
-    @Query("SELECT v FROM Vehicle v WHERE " +
-            "v.vehicleStatus = 'SALE' AND " +
-            "(:keyword IS NULL OR LOWER(v.brand) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(v.model) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+    // 복합 검색 공통 조건 (판매중 매물 한정)
+    // 키워드는 brand 또는 model 의 부분 문자열 (VehicleSearchIndex 와 같은 기준, %/_ 도 글자 그대로 비교)
+    String SEARCH_CONDITIONS = "v.vehicleStatus = 'SALE' AND " +
+            "(:keyword IS NULL OR LOCATE(LOWER(:keyword), LOWER(v.brand)) > 0 OR LOCATE(LOWER(:keyword), LOWER(v.model)) > 0) AND " +
+            "(:brand IS NULL OR v.brand = :brand) AND " +
             "(:minPrice IS NULL OR v.price >= :minPrice) AND " +
             "(:maxPrice IS NULL OR v.price <= :maxPrice) AND " +
             "(:minYear IS NULL OR v.modelYear >= :minYear) AND " +
             "(:maxYear IS NULL OR v.modelYear <= :maxYear) AND " +
             "(:maxMileage IS NULL OR v.mileage <= :maxMileage) AND " +
             "(:fuelTypes IS NULL OR v.fuelType IN :fuelTypes) AND " +
-            "(:transmissions IS NULL OR v.transmission IN :transmissions)")
+            "(:transmissions IS NULL OR v.transmission IN :transmissions)";
+
+    // 복합 검색: 브랜드 + 가격대 + 연식 + 주행거리 등
+    @Query("SELECT v FROM Vehicle v WHERE " + SEARCH_CONDITIONS)
     List<Vehicle> searchVehicles(
             @Param("keyword") String keyword,
+            @Param("brand") String brand,
             @Param("minPrice") BigDecimal minPrice,
             @Param("maxPrice") BigDecimal maxPrice,
             @Param("minYear") Integer minYear,
@@ -132,6 +189,145 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
             @Param("transmissions") List<Transmission> transmissions
     );
 
+    /**
+     * 상세 페이지 조회 (이미지, 업체, 업체 대표, 등록 직원까지 한 번에)
+     * - User.employee 는 mappedBy 쪽 1:1 이라 지연 로딩이 안 되므로 함께 fetch
+     */
+    @Query("SELECT DISTINCT v FROM Vehicle v " +
+            "LEFT JOIN FETCH v.images " +
+            "JOIN FETCH v.company c JOIN FETCH c.owner o LEFT JOIN FETCH o.employee " +
+            "JOIN FETCH v.registeredBy " +
+            "WHERE v.vehicleId = :id")
+    Optional<Vehicle> findDetailById(@Param("id") Long id);
+
+    // 업로드 정리 작업: 대표 이미지로 사용 중인 경로
+    @Query("SELECT v.thumbnailUrl FROM Vehicle v WHERE v.thumbnailUrl IN :urls")
+    List<String> findThumbnailUrlsIn(@Param("urls") Collection<String> urls);
+
+    // 상태 조건부 변경 (예: SALE -> RESERVED), 다른 요청이 먼저 바꿨으면 0 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Vehicle v SET v.vehicleStatus = :to, v.version = v.version + 1 " +
+            "WHERE v.vehicleId = :vehicleId AND v.vehicleStatus = :from")
+    int changeStatusIf(@Param("vehicleId") Long vehicleId,
+                       @Param("from") VehicleStatus from,
+                       @Param("to") VehicleStatus to);
+
+    /**
+     * 만료 작업: (만료일, vehicleId) 키셋 청크 + 알림 받을 딜러 / 대표 id 를 한 번에 조회
+     * - vehicleId % partitions == partition 인 매물만 (서버 간 분담, 나누지 않으면 1 / 0)
+     */
+    @Query("SELECT new com.usedcar.trading.domain.vehicle.dto.ExpiringVehicle(" +
+            "v.vehicleId, v.expirationDate, v.model, du.userId, du.name, o.userId) " +
+            "FROM Vehicle v JOIN v.registeredBy e JOIN e.user du JOIN v.company c JOIN c.owner o " +
+            "WHERE v.vehicleStatus = :status AND v.expirationDate < :now " +
+            "AND (v.expirationDate > :lastDate OR (v.expirationDate = :lastDate AND v.vehicleId > :lastId)) " +
+            "AND MOD(v.vehicleId, :partitions) = :partition " +
+            "ORDER BY v.expirationDate, v.vehicleId")
+    List<ExpiringVehicle> findExpiredChunk(@Param("status") VehicleStatus status,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("lastDate") LocalDateTime lastDate,
+                                           @Param("lastId") Long lastId,
+                                           @Param("partitions") int partitions,
+                                           @Param("partition") int partition,
+                                           Pageable pageable);
+
+    // 일괄 상태 변경 (그 사이 상태가 바뀐 매물은 제외됨)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Vehicle v SET v.vehicleStatus = :to, v.version = v.version + 1 " +
+            "WHERE v.vehicleId IN :ids AND v.vehicleStatus = :from")
+    int changeStatusIfIn(@Param("ids") Collection<Long> ids,
+                         @Param("from") VehicleStatus from,
+                         @Param("to") VehicleStatus to);
+
+    @Query("SELECT v.vehicleId FROM Vehicle v WHERE v.vehicleId IN :ids AND v.vehicleStatus = :status")
+    List<Long> findIdsByStatusIn(@Param("ids") Collection<Long> ids, @Param("status") VehicleStatus status);
+
+    // 대표 이미지를 카드용 사본으로 교체 (그 사이 대표 이미지가 바뀌었으면 건드리지 않음)
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.thumbnailUrl = :newUrl WHERE v.vehicleId = :vehicleId AND v.thumbnailUrl = :oldUrl")
+    int replaceThumbnailUrl(@Param("vehicleId") Long vehicleId,
+                            @Param("oldUrl") String oldUrl,
+                            @Param("newUrl") String newUrl);
+
+    /**
+     * 카드 DTO 조회 (목록/메인/찜 화면용, 엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    String CARD_SELECT = "SELECT new com.usedcar.trading.domain.vehicle.dto.VehicleCard(" +
+            "v.vehicleId, v.brand, v.model, v.modelYear, v.mileage, v.price, v.fuelType, v.transmission, " +
+            "v.color, v.thumbnailUrl, v.viewCount, v.vehicleStatus, v.createdAt) ";
+
+    // 상태별 카드 (페이징, 정렬은 Pageable 기준)
+    @Query(value = CARD_SELECT + "FROM Vehicle v WHERE v.vehicleStatus = :status",
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.vehicleStatus = :status")
+    Page<VehicleCard> findCardsByVehicleStatus(@Param("status") VehicleStatus status, Pageable pageable);
+
+    // 복합 검색 카드 (페이징)
+    @Query(value = CARD_SELECT + "FROM Vehicle v WHERE " + SEARCH_CONDITIONS,
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE " + SEARCH_CONDITIONS)
+    Page<VehicleCard> searchVehicleCards(
+            @Param("keyword") String keyword,
+            @Param("brand") String brand,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("minYear") Integer minYear,
+            @Param("maxYear") Integer maxYear,
+            @Param("maxMileage") Integer maxMileage,
+            @Param("fuelTypes") List<FuelType> fuelTypes,
+            @Param("transmissions") List<Transmission> transmissions,
+            Pageable pageable
+    );
+
+    // ID 목록으로 카드 조회 (순서 보장 안 됨)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE v.vehicleId IN :ids")
+    List<VehicleCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ID 목록 중 해당 상태인 매물만 카드로 조회 (순서 보장 안 됨)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE v.vehicleId IN :ids AND v.vehicleStatus = :status")
+    List<VehicleCard> findCardsByIdInAndVehicleStatus(@Param("ids") Collection<Long> ids,
+                                                      @Param("status") VehicleStatus status);
+
+    /**
+     * 커서(키셋) 페이징
+     * 직전 페이지 마지막 행의 (정렬 값, vehicleId) 이후부터 조회하므로 페이지 깊이와 무관하게 일정한 비용
+     */
+    // 최신 등록순: (createdAt DESC, vehicleId DESC)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE " + SEARCH_CONDITIONS + " AND " +
+            "(v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.vehicleId < :vehicleId)) " +
+            "ORDER BY v.createdAt DESC, v.vehicleId DESC")
+    Slice<VehicleCard> scrollLatest(
+            @Param("keyword") String keyword,
+            @Param("brand") String brand,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("minYear") Integer minYear,
+            @Param("maxYear") Integer maxYear,
+            @Param("maxMileage") Integer maxMileage,
+            @Param("fuelTypes") List<FuelType> fuelTypes,
+            @Param("transmissions") List<Transmission> transmissions,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("vehicleId") Long vehicleId,
+            Pageable pageable
+    );
+
+    // 가격 낮은순: (price ASC, vehicleId ASC)
+    @Query(CARD_SELECT + "FROM Vehicle v WHERE " + SEARCH_CONDITIONS + " AND " +
+            "(v.price > :price OR (v.price = :price AND v.vehicleId > :vehicleId)) " +
+            "ORDER BY v.price ASC, v.vehicleId ASC")
+    Slice<VehicleCard> scrollByPrice(
+            @Param("keyword") String keyword,
+            @Param("brand") String brand,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("minYear") Integer minYear,
+            @Param("maxYear") Integer maxYear,
+            @Param("maxMileage") Integer maxMileage,
+            @Param("fuelTypes") List<FuelType> fuelTypes,
+            @Param("transmissions") List<Transmission> transmissions,
+            @Param("price") BigDecimal price,
+            @Param("vehicleId") Long vehicleId,
+            Pageable pageable
+    );
+
     // 복합 검색 + 정렬 (가격순)
     @Query("SELECT v FROM Vehicle v WHERE " +
             "v.vehicleStatus = :status AND " +
@@ -160,6 +356,15 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     long countByVehicleStatusIn(List<VehicleStatus> statuses); // [PENDING, REJECTED]
 
     List<Vehicle> findByVehicleStatusAndExpirationDateBetween(VehicleStatus status, LocalDateTime start, LocalDateTime end);
-    List<Vehicle> findByVehicleStatusAndExpirationDateBefore(VehicleStatus status, LocalDateTime date);
+
+    // 상태별 vehicleId 키셋 청크 조회 (인메모리 인덱스 적재용)
+    List<Vehicle> findByVehicleStatusAndVehicleIdGreaterThanOrderByVehicleIdAsc(VehicleStatus status, Long vehicleId, Pageable pageable);
+
+    // 상태별 (vehicleId, version) 키셋 청크 조회 (인메모리 인덱스 대사용)
+    @Query("SELECT new com.usedcar.trading.domain.vehicle.dto.VehicleVersion(v.vehicleId, v.version) " +
+            "FROM Vehicle v WHERE v.vehicleStatus = :status AND v.vehicleId > :lastId ORDER BY v.vehicleId ASC")
+    List<VehicleVersion> findVersionChunk(@Param("status") VehicleStatus status,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
 
 }
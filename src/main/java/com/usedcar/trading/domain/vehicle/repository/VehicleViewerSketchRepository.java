@@ -0,0 +1,21 @@
+package com.usedcar.trading.domain.vehicle.repository;
+
+import com.usedcar.trading.domain.vehicle.entity.VehicleViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VehicleViewerSketchRepository extends JpaRepository<VehicleViewerSketch, Long> {
+
+    // 레지스터 병합용 (여러 서버가 같은 스케치를 동시에 덮어쓰지 않도록, 교착 방지를 위해 ID 순으로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM VehicleViewerSketch s WHERE s.vehicleId IN :ids ORDER BY s.vehicleId")
+    List<VehicleViewerSketch> findAllForUpdate(@Param("ids") Collection<Long> ids);
+}
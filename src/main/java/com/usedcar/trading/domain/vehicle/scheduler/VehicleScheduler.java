@@ -1,77 +1,121 @@
 package com.usedcar.trading.domain.vehicle.scheduler;
 
+import com.usedcar.trading.domain.notification.dto.NotificationRequest;
 import com.usedcar.trading.domain.notification.entity.NotificationType;
 import com.usedcar.trading.domain.notification.service.NotificationService;
-import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.vehicle.dto.ExpiringVehicle;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehiclesExpiredEvent;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import com.usedcar.trading.global.lock.service.SchedulerPartition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class VehicleScheduler {
 
+    // 만료 작업 한 트랜잭션에서 처리할 매물 수
+    private static final int CHUNK_SIZE = 500;
+
     private final VehicleRepository vehicleRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 매일 자정에 만료된 매물 처리 [VEH-012]
+     * - (만료일, vehicleId) 키셋으로 CHUNK_SIZE 씩 나눠 청크마다 짧은 트랜잭션으로 처리한다.
+     * - 청크마다 조건부 일괄 UPDATE -> 실제로 만료된 매물만 알림 일괄 기록
+     *   (그 사이 예약된 매물은 상태 조건에 걸려 제외되고, 다른 매물의 처리는 그대로 진행)
+     * - vehicleId 4개 구간으로 나눠 여러 서버가 나눠서 처리 (한 대면 혼자 전부 처리)
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
+    @SchedulerLock(name = "vehicle-expiration", lockAtMostMillis = 30 * 60_000, lockAtLeastMillis = 5 * 60_000, partitions = 4)
     public void checkExpiration() {
         log.info("스케줄러 실행: 만료된 매물 확인 중...");
 
-        List<Vehicle> expiredVehicles = vehicleRepository.findByVehicleStatusAndExpirationDateBefore(
-                VehicleStatus.SALE, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastDate = LocalDateTime.of(1970, 1, 1, 0, 0);
+        long lastId = 0;
+        int expired = 0;
+
+        while (true) {
+            List<ExpiringVehicle> chunk = vehicleRepository.findExpiredChunk(
+                    VehicleStatus.SALE, now, lastDate, lastId,
+                    SchedulerPartition.count(), SchedulerPartition.index(), PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) break;
+
+            expired += transactionTemplate.execute(status -> expireChunk(chunk));
+
+            ExpiringVehicle last = chunk.get(chunk.size() - 1);
+            lastDate = last.getExpirationDate();
+            lastId = last.getVehicleId();
+            if (chunk.size() < CHUNK_SIZE) break;
+        }
 
-        if (expiredVehicles.isEmpty()) {
+        if (expired == 0) {
             log.info("만료된 매물이 없습니다.");
             return;
         }
+        log.info("만료 처리 완료: {}건", expired);
+    }
 
-        for (Vehicle vehicle : expiredVehicles) {
-            vehicle.changeStatus(VehicleStatus.EXPIRED);
-
-            log.info("매물 만료 처리: ID={}, 모델={}", vehicle.getVehicleId(), vehicle.getModel());
+    private int expireChunk(List<ExpiringVehicle> chunk) {
+        List<Long> ids = chunk.stream().map(ExpiringVehicle::getVehicleId).toList();
+        vehicleRepository.changeStatusIfIn(ids, VehicleStatus.SALE, VehicleStatus.EXPIRED);
+        Set<Long> expiredIds = new HashSet<>(vehicleRepository.findIdsByStatusIn(ids, VehicleStatus.EXPIRED));
 
-            User dealer = vehicle.getRegisteredBy().getUser();
-            User boss = vehicle.getCompany().getOwner();
+        // [VEH-014] 알림 발송
+        List<NotificationRequest> requests = new ArrayList<>();
+        for (ExpiringVehicle vehicle : chunk) {
+            if (!expiredIds.contains(vehicle.getVehicleId())) continue;
 
-            // [VEH-014] 알림 발송
-            notificationService.createNotification(
-                    dealer,
+            requests.add(new NotificationRequest(
+                    vehicle.getDealerUserId(),
                     NotificationType.VEHICLE_EXPIRED,
                     String.format("매물 '%s'이(가) 만료되어 노출이 중단되었습니다. 사진 갱신이 필요합니다.", vehicle.getModel()),
                     "/company/sales"
-            );
+            ));
 
-            if (!dealer.getUserId().equals(boss.getUserId())) {
-                notificationService.createNotification(
-                        boss,
+            if (!vehicle.getDealerUserId().equals(vehicle.getOwnerUserId())) {
+                requests.add(new NotificationRequest(
+                        vehicle.getOwnerUserId(),
                         NotificationType.VEHICLE_EXPIRED,
-                        String.format("담당 직원 %s의 매물 '%s'이(가) 만료되었습니다.", dealer.getName(), vehicle.getModel()),
+                        String.format("담당 직원 %s의 매물 '%s'이(가) 만료되었습니다.", vehicle.getDealerName(), vehicle.getModel()),
                         "/company/sales"
-                );
+                ));
             }
         }
+        notificationService.createNotifications(requests);
 
-        log.info("만료 처리 완료: {}건", expiredVehicles.size());
+        if (!expiredIds.isEmpty()) {
+            eventPublisher.publishEvent(new VehiclesExpiredEvent(List.copyOf(expiredIds)));
+            log.debug("매물 만료 처리: {}건", expiredIds.size());
+        }
+        return expiredIds.size();
     }
 
     /**
      * 매일 오전 9시에 만료 임박 매물 알림 [VEH-012]
      */
     @Scheduled(cron = "0 0 9 * * *")
+    @SchedulerLock(name = "vehicle-expiring-notice", lockAtMostMillis = 30 * 60_000, lockAtLeastMillis = 5 * 60_000)
     @Transactional(readOnly = true)
     public void notifyExpiringVehicles() {
         log.info("스케줄러 실행: 만료 임박 매물 알림 중...");
@@ -0,0 +1,622 @@
+package com.usedcar.trading.domain.vehicle.search;
+
+import com.usedcar.trading.domain.vehicle.dto.VehicleFacetResponse;
+import com.usedcar.trading.domain.vehicle.dto.VehicleSearchCondition;
+import com.usedcar.trading.domain.vehicle.dto.VehicleVersion;
+import com.usedcar.trading.domain.vehicle.entity.FuelType;
+import com.usedcar.trading.domain.vehicle.entity.Transmission;
+import com.usedcar.trading.domain.vehicle.entity.Vehicle;
+import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
+import com.usedcar.trading.domain.vehicle.event.VehiclesExpiredEvent;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매중(SALE) 매물 인메모리 역색인
+ *
+ * brand / model 값(소문자)마다 문서 비트셋(posting list)을 두고
+ * 가격, 연식, 주행거리 등 필터 값은 문서 번호로 접근하는 primitive 배열에 보관한다.
+ * 키워드는 DB 검색(VehicleRepository.SEARCH_CONDITIONS)과 같이 brand 또는 model 의 부분 문자열로 찾는다.
+ * (값 종류는 매물 수보다 훨씬 적으므로 값 목록만 훑고 해당 비트셋을 합친다)
+ * 키워드 + 필터 검색을 DB 없이 처리하고, 결과 페이지의 vehicleId 만 돌려준다.
+ * 연료/변속기/브랜드/가격·연식·주행거리 구간별 비트셋을 함께 유지해 패싯 개수도 비트 연산으로 계산한다.
+ *
+ * 매물 변경은 VehicleChangedEvent(커밋 이후)로 증분 반영된다.
+ * 이벤트는 변경이 일어난 서버에만 전달되므로, 주기적으로 DB 의 (vehicleId, version) 과 대사해
+ * 다른 서버에서 바뀐 매물도 일정 시간 안에 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long RECONCILE_INTERVAL_MS = 60_000;
+
+    // 패싯 구간 경계 (하한 포함, 상한 미포함)
+    static final long[] PRICE_BOUNDS = {10_000_000L, 20_000_000L, 30_000_000L, 50_000_000L};
+    static final long[] YEAR_BOUNDS = {2015, 2019, 2022};
+    static final long[] MILEAGE_BOUNDS = {30_000, 60_000, 100_000};
+
+    // 인덱스에서 정렬 가능한 필드
+    private static final Set<String> SORTABLE = Set.of("createdAt", "price", "mileage", "modelYear");
+
+    private final VehicleRepository vehicleRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready = false;
+
+    // 적재/대사 도중 이벤트로 먼저 반영된 vehicleId (write lock 으로 보호, 적재 중이 아니면 null)
+    // 청크는 lock 밖에서 읽으므로, 그 사이 반영된 더 새로운 상태를 오래된 청크로 덮어쓰지 않기 위함
+    private Set<Long> touched;
+
+    // vehicleId <-> 문서 번호
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private int nextDocId = 0;
+
+    // 문서 번호별 필드 값 (primitive 배열)
+    private long[] vehicleIds = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] modelYears = new int[INITIAL_CAPACITY];
+    private int[] mileages = new int[INITIAL_CAPACITY];
+    private long[] createdAts = new long[INITIAL_CAPACITY];
+    private byte[] fuelTypes = new byte[INITIAL_CAPACITY];
+    private byte[] transmissions = new byte[INITIAL_CAPACITY];
+    private String[][] docTerms = new String[INITIAL_CAPACITY][];  // 소문자 brand, model
+    private String[] brands = new String[INITIAL_CAPACITY];
+
+    // 현재 판매중인 문서
+    private final BitSet live = new BitSet();
+
+    // 소문자 brand / model 값 -> 문서 비트셋 (키워드 검색용)
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    // 속성 값 -> 문서 비트셋 (필터, 패싯 계산용)
+    private final BitSet[] fuelTypeDocs = newBitSets(FuelType.values().length);
+    private final BitSet[] transmissionDocs = newBitSets(Transmission.values().length);
+    private final Map<String, BitSet> brandDocs = new TreeMap<>();
+    private final BitSet[] priceBucketDocs = newBitSets(PRICE_BOUNDS.length + 1);
+    private final BitSet[] yearBucketDocs = newBitSets(YEAR_BOUNDS.length + 1);
+    private final BitSet[] mileageBucketDocs = newBitSets(MILEAGE_BOUNDS.length + 1);
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 애플리케이션 기동 시 판매중 매물 전체 적재 (vehicleId 키셋으로 청크 단위 로딩)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        ready = false;
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            touched = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long lastId = 0L;
+        int loaded = 0;
+        try {
+            while (true) {
+                List<Vehicle> chunk = vehicleRepository.findByVehicleStatusAndVehicleIdGreaterThanOrderByVehicleIdAsc(
+                        VehicleStatus.SALE, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                if (chunk.isEmpty()) break;
+
+                lock.writeLock().lock();
+                try {
+                    for (Vehicle vehicle : chunk) {
+                        if (!touched.contains(vehicle.getVehicleId())) put(vehicle);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                loaded += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getVehicleId();
+            }
+        } finally {
+            endLoading();
+        }
+
+        ready = true;
+        log.info("매물 검색 인덱스 구축 완료: {}건, {}ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * DB 와 대사 (서버마다 자기 인덱스를 맞추는 작업이라 @SchedulerLock 없이 모든 서버에서 실행)
+     *
+     * 판매중 매물의 (vehicleId, version) 만 훑어 인덱스에 없거나 버전이 다른 매물은 다시 읽어 반영하고,
+     * 더 이상 판매중이 아닌 매물은 제거한다.
+     */
+    @Scheduled(fixedDelay = RECONCILE_INTERVAL_MS, initialDelay = RECONCILE_INTERVAL_MS)
+    public synchronized void reconcile() {
+        if (!ready) return;
+
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            touched = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, Long> saleVersions = new HashMap<>();
+            long lastId = 0L;
+            while (true) {
+                List<VehicleVersion> chunk = vehicleRepository.findVersionChunk(
+                        VehicleStatus.SALE, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                if (chunk.isEmpty()) break;
+
+                for (VehicleVersion row : chunk) {
+                    saleVersions.put(row.getVehicleId(), versionOf(row.getVersion()));
+                }
+                lastId = chunk.get(chunk.size() - 1).getVehicleId();
+            }
+
+            List<Long> outdated = new ArrayList<>();
+            List<Long> stale = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                saleVersions.forEach((vehicleId, version) -> {
+                    Integer doc = docIds.get(vehicleId);
+                    if (doc == null || versions[doc] != version) outdated.add(vehicleId);
+                });
+                for (Long vehicleId : docIds.keySet()) {
+                    if (!saleVersions.containsKey(vehicleId)) stale.add(vehicleId);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            for (int from = 0; from < outdated.size(); from += LOAD_CHUNK_SIZE) {
+                List<Vehicle> chunk = vehicleRepository.findAllById(
+                        outdated.subList(from, Math.min(from + LOAD_CHUNK_SIZE, outdated.size())));
+
+                lock.writeLock().lock();
+                try {
+                    for (Vehicle vehicle : chunk) {
+                        if (touched.contains(vehicle.getVehicleId())) continue;
+                        if (vehicle.getVehicleStatus() == VehicleStatus.SALE) {
+                            put(vehicle);
+                        } else {
+                            remove(vehicle.getVehicleId());
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (Long vehicleId : stale) {
+                    if (!touched.contains(vehicleId)) remove(vehicleId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (!outdated.isEmpty() || !stale.isEmpty()) {
+                log.info("매물 검색 인덱스 대사: 갱신 {}건, 제거 {}건, {}ms",
+                        outdated.size(), stale.size(), System.currentTimeMillis() - started);
+            }
+        } finally {
+            endLoading();
+        }
+    }
+
+    /**
+     * 일괄 만료 반영 (SALE 이 아니게 된 것이 확실하므로 다시 읽지 않고 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehiclesExpired(VehiclesExpiredEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Long vehicleId : event.getVehicleIds()) {
+                touch(vehicleId);
+                remove(vehicleId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 매물 변경 반영 (커밋 이후 최신 상태를 다시 읽어 SALE 이면 색인, 아니면 제거)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        Vehicle vehicle = vehicleRepository.findById(event.getVehicleId()).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            touch(event.getVehicleId());
+            if (vehicle != null && vehicle.getVehicleStatus() == VehicleStatus.SALE) {
+                put(vehicle);
+            } else {
+                remove(event.getVehicleId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 + 필터 검색
+     *
+     * @return 요청 페이지에 해당하는 vehicleId 목록과 전체 건수
+     */
+    public Page<Long> search(VehicleSearchCondition condition, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(condition);
+            int total = matches.cardinality();
+
+            Comparator<Integer> order = comparator(pageable.getSort());
+            int wanted = (int) Math.min((long) total, pageable.getOffset() + pageable.getPageSize());
+
+            // 필요한 만큼(offset + size)만 유지하는 힙으로 상위 N 건 선별
+            PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(wanted, 1), order.reversed());
+            for (int doc = matches.nextSetBit(0); doc >= 0 && wanted > 0; doc = matches.nextSetBit(doc + 1)) {
+                heap.offer(doc);
+                if (heap.size() > wanted) heap.poll();
+            }
+
+            Integer[] top = heap.toArray(new Integer[0]);
+            Arrays.sort(top, order);
+
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            for (int i = (int) pageable.getOffset(); i < top.length; i++) {
+                ids.add(vehicleIds[top[i]]);
+            }
+            return new PageImpl<>(ids, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 필터 조건 기준 패싯 개수
+     *
+     * 연료/변속기/브랜드는 자기 자신의 선택은 제외한 조건으로 센다.
+     * (DIESEL 을 골라도 GASOLINE 을 추가하면, 다른 브랜드로 바꾸면 몇 건이 되는지 보여주기 위함)
+     */
+    public VehicleFacetResponse facets(VehicleSearchCondition condition) {
+        lock.readLock().lock();
+        try {
+            BitSet base = matchExceptEnums(condition);
+
+            BitSet brandFilter = brandOf(condition.getBrand());
+
+            BitSet fuelBase = (BitSet) base.clone();
+            fuelBase.and(unionOf(transmissionDocs, condition.getTransmissions()));
+
+            BitSet brandBase = (BitSet) fuelBase.clone();
+            brandBase.and(unionOf(fuelTypeDocs, condition.getFuelTypes()));
+            fuelBase.and(brandFilter);
+
+            BitSet transmissionBase = (BitSet) base.clone();
+            transmissionBase.and(unionOf(fuelTypeDocs, condition.getFuelTypes()));
+            transmissionBase.and(brandFilter);
+
+            BitSet matches = (BitSet) fuelBase.clone();
+            matches.and(unionOf(fuelTypeDocs, condition.getFuelTypes()));
+
+            Map<String, Long> fuelCounts = new LinkedHashMap<>();
+            for (FuelType fuelType : FuelType.values()) {
+                fuelCounts.put(fuelType.name(), countAnd(fuelBase, fuelTypeDocs[fuelType.ordinal()]));
+            }
+
+            Map<String, Long> transmissionCounts = new LinkedHashMap<>();
+            for (Transmission transmission : Transmission.values()) {
+                transmissionCounts.put(transmission.name(), countAnd(transmissionBase, transmissionDocs[transmission.ordinal()]));
+            }
+
+            Map<String, Long> brandCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, BitSet> entry : brandDocs.entrySet()) {
+                long count = countAnd(brandBase, entry.getValue());
+                if (count > 0) brandCounts.put(entry.getKey(), count);
+            }
+
+            return VehicleFacetResponse.builder()
+                    .total(matches.cardinality())
+                    .fuelTypes(fuelCounts)
+                    .transmissions(transmissionCounts)
+                    .brands(brandCounts)
+                    .priceRanges(bucketCounts(matches, priceBucketDocs, PRICE_BOUNDS))
+                    .yearRanges(bucketCounts(matches, yearBucketDocs, YEAR_BOUNDS))
+                    .mileageRanges(bucketCounts(matches, mileageBucketDocs, MILEAGE_BOUNDS))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 인덱스만으로 처리 가능한 정렬인지 (조회수순 등은 DB 로 위임)
+    public boolean supports(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 문서 비트셋 (read lock 보유 상태에서 호출)
+     */
+    BitSet match(VehicleSearchCondition condition) {
+        BitSet result = matchExceptEnums(condition);
+        result.and(unionOf(fuelTypeDocs, condition.getFuelTypes()));
+        result.and(unionOf(transmissionDocs, condition.getTransmissions()));
+        result.and(brandOf(condition.getBrand()));
+        return result;
+    }
+
+    // 키워드 + 범위 조건만 적용 (연료/변속기/브랜드 제외)
+    private BitSet matchExceptEnums(VehicleSearchCondition condition) {
+        BitSet result = (BitSet) live.clone();
+
+        String keyword = normalize(condition.getKeyword());
+        if (keyword != null) {
+            BitSet keywordDocs = new BitSet();
+            for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                if (entry.getKey().contains(keyword)) keywordDocs.or(entry.getValue());
+            }
+            result.and(keywordDocs);
+            if (result.isEmpty()) return result;
+        }
+
+        if (condition.getMinPrice() == null && condition.getMaxPrice() == null
+                && condition.getMinYear() == null && condition.getMaxYear() == null
+                && condition.getMaxMileage() == null) {
+            return result;
+        }
+
+        long minPrice = condition.getMinPrice() != null ? condition.getMinPrice().longValue() : Long.MIN_VALUE;
+        long maxPrice = condition.getMaxPrice() != null ? condition.getMaxPrice().longValue() : Long.MAX_VALUE;
+        int minYear = condition.getMinYear() != null ? condition.getMinYear() : Integer.MIN_VALUE;
+        int maxYear = condition.getMaxYear() != null ? condition.getMaxYear() : Integer.MAX_VALUE;
+        int maxMileage = condition.getMaxMileage() != null ? condition.getMaxMileage() : Integer.MAX_VALUE;
+
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            if (prices[doc] < minPrice || prices[doc] > maxPrice
+                    || modelYears[doc] < minYear || modelYears[doc] > maxYear
+                    || mileages[doc] > maxMileage) {
+                result.clear(doc);
+            }
+        }
+        return result;
+    }
+
+    // 선택된 값들의 비트셋 합집합 (선택 없음 = 전체)
+    private BitSet unionOf(BitSet[] docsByValue, List<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) return live;
+
+        BitSet union = new BitSet();
+        for (Enum<?> value : values) {
+            union.or(docsByValue[value.ordinal()]);
+        }
+        return union;
+    }
+
+    // 선택된 브랜드의 비트셋 (선택 없음 = 전체)
+    private BitSet brandOf(String brand) {
+        if (brand == null) return live;
+
+        BitSet docs = brandDocs.get(brand);
+        return docs != null ? docs : new BitSet();
+    }
+
+    private static long countAnd(BitSet a, BitSet b) {
+        BitSet intersection = (BitSet) a.clone();
+        intersection.and(b);
+        return intersection.cardinality();
+    }
+
+    private static Map<String, Long> bucketCounts(BitSet matches, BitSet[] bucketDocs, long[] bounds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < bucketDocs.length; i++) {
+            String from = i == 0 ? "" : String.valueOf(bounds[i - 1]);
+            String to = i == bounds.length ? "" : String.valueOf(bounds[i]);
+            counts.put(from + "-" + to, countAnd(matches, bucketDocs[i]));
+        }
+        return counts;
+    }
+
+    private static int bucketOf(long value, long[] bounds) {
+        int bucket = 0;
+        while (bucket < bounds.length && value >= bounds[bucket]) bucket++;
+        return bucket;
+    }
+
+    private static BitSet[] newBitSets(int size) {
+        BitSet[] bitSets = new BitSet[size];
+        for (int i = 0; i < size; i++) bitSets[i] = new BitSet();
+        return bitSets;
+    }
+
+    // write lock 보유 상태에서 호출
+    private void touch(Long vehicleId) {
+        if (touched != null) touched.add(vehicleId);
+    }
+
+    private void endLoading() {
+        lock.writeLock().lock();
+        try {
+            touched = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+
+    // write lock 보유 상태에서 호출
+    private void put(Vehicle vehicle) {
+        Integer doc = docIds.get(vehicle.getVehicleId());
+        if (doc == null) {
+            doc = freeDocIds.isEmpty() ? nextDocId++ : freeDocIds.pop();
+            ensureCapacity(doc + 1);
+            docIds.put(vehicle.getVehicleId(), doc);
+        } else {
+            unlinkTerms(doc);
+            unlinkAttributes(doc);
+        }
+
+        vehicleIds[doc] = vehicle.getVehicleId();
+        versions[doc] = versionOf(vehicle.getVersion());
+        prices[doc] = vehicle.getPrice() != null ? vehicle.getPrice().longValue() : 0L;
+        modelYears[doc] = vehicle.getModelYear();
+        mileages[doc] = vehicle.getMileage();
+        createdAts[doc] = vehicle.getCreatedAt() != null ? vehicle.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        fuelTypes[doc] = (byte) vehicle.getFuelType().ordinal();
+        transmissions[doc] = (byte) vehicle.getTransmission().ordinal();
+
+        Set<String> terms = new HashSet<>();
+        if (vehicle.getBrand() != null) terms.add(normalize(vehicle.getBrand()));
+        if (vehicle.getModel() != null) terms.add(normalize(vehicle.getModel()));
+
+        docTerms[doc] = terms.toArray(new String[0]);
+        for (String term : docTerms[doc]) {
+            postings.computeIfAbsent(term, t -> new BitSet()).set(doc);
+        }
+
+        brands[doc] = vehicle.getBrand();
+        fuelTypeDocs[fuelTypes[doc]].set(doc);
+        transmissionDocs[transmissions[doc]].set(doc);
+        brandDocs.computeIfAbsent(brands[doc], b -> new BitSet()).set(doc);
+        priceBucketDocs[bucketOf(prices[doc], PRICE_BOUNDS)].set(doc);
+        yearBucketDocs[bucketOf(modelYears[doc], YEAR_BOUNDS)].set(doc);
+        mileageBucketDocs[bucketOf(mileages[doc], MILEAGE_BOUNDS)].set(doc);
+
+        live.set(doc);
+    }
+
+    // write lock 보유 상태에서 호출
+    private void remove(Long vehicleId) {
+        Integer doc = docIds.remove(vehicleId);
+        if (doc == null) return;
+
+        unlinkTerms(doc);
+        unlinkAttributes(doc);
+        live.clear(doc);
+        freeDocIds.push(doc);
+    }
+
+    private void unlinkTerms(int doc) {
+        if (docTerms[doc] == null) return;
+
+        for (String term : docTerms[doc]) {
+            BitSet posting = postings.get(term);
+            if (posting == null) continue;
+            posting.clear(doc);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+        docTerms[doc] = null;
+    }
+
+    private void unlinkAttributes(int doc) {
+        fuelTypeDocs[fuelTypes[doc]].clear(doc);
+        transmissionDocs[transmissions[doc]].clear(doc);
+        priceBucketDocs[bucketOf(prices[doc], PRICE_BOUNDS)].clear(doc);
+        yearBucketDocs[bucketOf(modelYears[doc], YEAR_BOUNDS)].clear(doc);
+        mileageBucketDocs[bucketOf(mileages[doc], MILEAGE_BOUNDS)].clear(doc);
+
+        BitSet brandPosting = brands[doc] != null ? brandDocs.get(brands[doc]) : null;
+        if (brandPosting != null) {
+            brandPosting.clear(doc);
+            if (brandPosting.isEmpty()) brandDocs.remove(brands[doc]);
+        }
+        brands[doc] = null;
+    }
+
+    private void clear() {
+        docIds.clear();
+        freeDocIds.clear();
+        nextDocId = 0;
+        live.clear();
+        postings.clear();
+        Arrays.fill(docTerms, null);
+        Arrays.fill(brands, null);
+        brandDocs.clear();
+        for (BitSet[] bitSets : List.of(fuelTypeDocs, transmissionDocs, priceBucketDocs, yearBucketDocs, mileageBucketDocs)) {
+            for (BitSet bitSet : bitSets) bitSet.clear();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= vehicleIds.length) return;
+
+        int newCapacity = Math.max(capacity, vehicleIds.length * 2);
+        vehicleIds = Arrays.copyOf(vehicleIds, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        modelYears = Arrays.copyOf(modelYears, newCapacity);
+        mileages = Arrays.copyOf(mileages, newCapacity);
+        createdAts = Arrays.copyOf(createdAts, newCapacity);
+        fuelTypes = Arrays.copyOf(fuelTypes, newCapacity);
+        transmissions = Arrays.copyOf(transmissions, newCapacity);
+        docTerms = Arrays.copyOf(docTerms, newCapacity);
+        brands = Arrays.copyOf(brands, newCapacity);
+    }
+
+    // 정렬 기준 비교자 (동률은 vehicleId 내림차순)
+    private Comparator<Integer> comparator(Sort sort) {
+        Comparator<Integer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Integer> next = switch (order.getProperty()) {
+                case "price" -> Comparator.comparingLong(doc -> prices[doc]);
+                case "mileage" -> Comparator.comparingInt(doc -> mileages[doc]);
+                case "modelYear" -> Comparator.comparingInt(doc -> modelYears[doc]);
+                default -> Comparator.comparingLong(doc -> createdAts[doc]);
+            };
+            if (order.isDescending()) next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator == null) {
+            comparator = Comparator.<Integer>comparingLong(doc -> createdAts[doc]).reversed();
+        }
+        return comparator.thenComparing(Comparator.<Integer>comparingLong(doc -> vehicleIds[doc]).reversed());
+    }
+
+    // DB 의 LOWER 와 같은 기준으로 비교하기 위한 소문자 변환
+    private static String normalize(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : null;
+    }
+}
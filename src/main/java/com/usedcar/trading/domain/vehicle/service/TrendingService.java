@@ -0,0 +1,119 @@
+package com.usedcar.trading.domain.vehicle.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매물 트렌딩 점수 (시간 감쇠)
+ * - 조회 / 찜 / 구매 요청에 가중치를 주고, 반감기(HALF_LIFE)마다 점수가 절반으로 줄어든다.
+ * - 누적 조회수 순위와 달리 오래된 매물이 상위에 고정되지 않는다.
+ */
+@Service
+public class TrendingService {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double FAVORITE_WEIGHT = 5.0;
+    public static final double TRANSACTION_REQUEST_WEIGHT = 10.0;
+
+    private static final long HALF_LIFE_MILLIS = 12 * 60 * 60 * 1000L;
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE_MILLIS;
+
+    // 이 값 아래로 감쇠한 항목은 순위 계산 중 정리
+    private static final double PRUNE_THRESHOLD = 0.05;
+
+    private final Map<Long, Score> scores = new ConcurrentHashMap<>();
+
+    public void recordView(Long vehicleId) {
+        record(vehicleId, VIEW_WEIGHT);
+    }
+
+    public void recordFavorite(Long vehicleId) {
+        record(vehicleId, FAVORITE_WEIGHT);
+    }
+
+    public void recordTransactionRequest(Long vehicleId) {
+        record(vehicleId, TRANSACTION_REQUEST_WEIGHT);
+    }
+
+    // 현재 시점의 점수
+    public double getScore(Long vehicleId) {
+        Score score = scores.get(vehicleId);
+        return score == null ? 0 : score.valueAt(System.currentTimeMillis());
+    }
+
+    /**
+     * 점수 상위 k 개 매물 ID (점수 내림차순)
+     * - 크기 k 의 최소 힙으로 전체 정렬 없이 선택
+     */
+    public List<Long> topK(int k) {
+        if (k <= 0) return List.of();
+
+        long now = System.currentTimeMillis();
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(r -> r.score));
+
+        for (Map.Entry<Long, Score> entry : scores.entrySet()) {
+            double value = entry.getValue().valueAt(now);
+            if (value < PRUNE_THRESHOLD) {
+                scores.remove(entry.getKey(), entry.getValue());
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.add(new Ranked(entry.getKey(), value));
+            } else if (value > heap.peek().score) {
+                heap.poll();
+                heap.add(new Ranked(entry.getKey(), value));
+            }
+        }
+
+        List<Long> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().vehicleId);
+        }
+        // 최소 힙에서 꺼냈으므로 뒤집어서 내림차순
+        Collections.reverse(result);
+        return result;
+    }
+
+    // 매물이 판매 목록에서 빠지면 점수 제거
+    public void remove(Long vehicleId) {
+        scores.remove(vehicleId);
+    }
+
+    private void record(Long vehicleId, double weight) {
+        scores.computeIfAbsent(vehicleId, id -> new Score()).add(weight, System.currentTimeMillis());
+    }
+
+    private static class Ranked {
+        private final Long vehicleId;
+        private final double score;
+
+        private Ranked(Long vehicleId, double score) {
+            this.vehicleId = vehicleId;
+            this.score = score;
+        }
+    }
+
+    private static class Score {
+        private double value;
+        private long updatedAt;
+
+        // 기존 점수를 지금까지 감쇠시킨 뒤 가중치를 더한다
+        private synchronized void add(double weight, long now) {
+            value = valueAt(now) + weight;
+            updatedAt = now;
+        }
+
+        private synchronized double valueAt(long now) {
+            if (value == 0) return 0;
+            long elapsed = Math.max(0, now - updatedAt);
+            return value * Math.exp(-DECAY_RATE * elapsed);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.usedcar.trading.domain.vehicle.service;
+
+import com.usedcar.trading.domain.vehicle.entity.VehicleViewerSketch;
+import com.usedcar.trading.domain.vehicle.repository.VehicleViewerSketchRepository;
+import com.usedcar.trading.domain.vehicle.stats.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매물별 고유 방문자 수 추정 (HyperLogLog)
+ * - 방문자 키(회원/세션/IP)를 스케치에 넣고, 주기적으로 레지스터와 추정치를 DB 에 저장한다.
+ * - 저장 시 DB 레지스터와 병합하므로 여러 서버가 모은 방문자가 서로 덮어쓰이지 않는다.
+ * - 추정치는 vehicle.unique_view_count 에 반영되어 인기순 정렬/판매자 통계에 쓰인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueViewerService {
+
+    // 메모리에 올려둘 최대 스케치 수 (초과 시 저장된 스케치부터 내림, 약 512 bytes * 이 값)
+    private static final int MAX_CACHED_SKETCHES = 20_000;
+
+    private static final String UPDATE_COUNT_SQL = "UPDATE vehicle SET unique_view_count = ? WHERE vehicle_id = ?";
+
+    private final VehicleViewerSketchRepository sketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Sketch> sketches = new ConcurrentHashMap<>();
+
+    /**
+     * 방문 기록
+     */
+    public void record(Long vehicleId, String viewerKey) {
+        if (viewerKey == null || viewerKey.isEmpty()) return;
+
+        while (true) {
+            Sketch sketch = sketches.get(vehicleId);
+            if (sketch == null) {
+                // DB 조회를 맵 잠금 밖에서 수행
+                Sketch loaded = load(vehicleId);
+                sketch = sketches.putIfAbsent(vehicleId, loaded);
+                if (sketch == null) sketch = loaded;
+            }
+            synchronized (sketch) {
+                // 캐시에서 내려간 스케치면 다시 읽어서 기록
+                if (sketch.evicted) continue;
+                if (sketch.hll.offer(viewerKey)) {
+                    sketch.dirty = true;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 고유 방문자 추정치
+     */
+    public long getUniqueViewers(Long vehicleId) {
+        Sketch sketch = sketches.get(vehicleId);
+        if (sketch == null) {
+            return sketchRepository.findById(vehicleId)
+                    .map(s -> HyperLogLog.fromBytes(s.getRegisters()).estimate())
+                    .orElse(0L);
+        }
+        synchronized (sketch) {
+            return sketch.hll.estimate();
+        }
+    }
+
+    /**
+     * 변경된 스케치 저장 + 추정치 반영
+     * - 이 서버가 모은 스케치만 저장하므로 서버마다 실행
+     * - 저장된 레지스터를 행 잠금으로 읽어 이 서버의 스케치와 병합(레지스터별 최대값)한 뒤 저장한다.
+     *   병합 결과는 다시 메모리 스케치에도 합쳐 다른 서버가 모은 방문자까지 추정치에 반영한다.
+     */
+    @Scheduled(fixedDelay = 30000)
+    public synchronized void persist() {
+        Map<Long, HyperLogLog> snapshot = new HashMap<>();
+        List<Sketch> persisted = new ArrayList<>();
+
+        sketches.forEach((vehicleId, sketch) -> {
+            synchronized (sketch) {
+                if (!sketch.dirty) return;
+                sketch.dirty = false;
+                snapshot.put(vehicleId, HyperLogLog.fromBytes(sketch.hll.toBytes()));
+                persisted.add(sketch);
+            }
+        });
+
+        if (!snapshot.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Long, VehicleViewerSketch> existing = sketchRepository.findAllForUpdate(snapshot.keySet()).stream()
+                            .collect(Collectors.toMap(VehicleViewerSketch::getVehicleId, Function.identity()));
+
+                    List<VehicleViewerSketch> toSave = new ArrayList<>();
+                    List<Object[]> counts = new ArrayList<>();
+                    snapshot.forEach((vehicleId, hll) -> {
+                        VehicleViewerSketch entity = existing.get(vehicleId);
+                        if (entity == null) {
+                            entity = VehicleViewerSketch.builder().vehicleId(vehicleId).build();
+                        } else {
+                            hll.merge(HyperLogLog.fromBytes(entity.getRegisters()));
+                        }
+                        entity.update(hll.toBytes());
+                        toSave.add(entity);
+                        counts.add(new Object[]{hll.estimate(), vehicleId});
+                    });
+                    sketchRepository.saveAll(toSave);
+                    jdbcTemplate.batchUpdate(UPDATE_COUNT_SQL, counts);
+                });
+                log.debug("고유 방문자 스케치 저장: {}건", snapshot.size());
+            } catch (Exception e) {
+                // 다음 주기에 다시 저장
+                persisted.forEach(sketch -> {
+                    synchronized (sketch) {
+                        sketch.dirty = true;
+                    }
+                });
+                log.warn("고유 방문자 스케치 저장 실패: {}건, {}", snapshot.size(), e.getMessage());
+                return;
+            }
+
+            // 병합은 합집합이라 여러 번 합쳐도 결과가 같다 (dirty 로 되돌리지 않음)
+            snapshot.forEach((vehicleId, hll) -> {
+                Sketch sketch = sketches.get(vehicleId);
+                if (sketch == null) return;
+                synchronized (sketch) {
+                    sketch.hll.merge(hll);
+                }
+            });
+        }
+
+        evictIfNeeded();
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+
+    // 저장이 끝난 스케치만 내린다 (필요하면 DB 에서 다시 읽음)
+    private void evictIfNeeded() {
+        int excess = sketches.size() - MAX_CACHED_SKETCHES;
+        if (excess <= 0) return;
+
+        for (Map.Entry<Long, Sketch> entry : sketches.entrySet()) {
+            if (excess <= 0) break;
+            Sketch sketch = entry.getValue();
+            synchronized (sketch) {
+                if (sketch.dirty) continue;
+                sketch.evicted = true;
+                sketches.remove(entry.getKey(), sketch);
+                excess--;
+            }
+        }
+    }
+
+    private Sketch load(Long vehicleId) {
+        return sketchRepository.findById(vehicleId)
+                .map(s -> new Sketch(HyperLogLog.fromBytes(s.getRegisters())))
+                .orElseGet(() -> new Sketch(new HyperLogLog()));
+    }
+
+    private static class Sketch {
+        private final HyperLogLog hll;
+        private boolean dirty;
+        private boolean evicted;
+
+        private Sketch(HyperLogLog hll) {
+            this.hll = hll;
+        }
+    }
+}
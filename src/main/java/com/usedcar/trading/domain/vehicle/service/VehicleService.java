@@ -6,22 +6,31 @@ import com.usedcar.trading.domain.company.entity.Company;
 import com.usedcar.trading.domain.employee.entity.Employee;
 import com.usedcar.trading.domain.employee.repository.EmployeeRepository;
 import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCursor;
 import com.usedcar.trading.domain.vehicle.dto.VehicleRegisterRequest;
+import com.usedcar.trading.domain.vehicle.dto.VehicleSearchCondition;
 import com.usedcar.trading.domain.vehicle.entity.Vehicle;
 import com.usedcar.trading.domain.vehicle.entity.VehicleImage;
 import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
+import com.usedcar.trading.domain.vehicle.event.VehicleImagesUploadedEvent;
 import com.usedcar.trading.domain.vehicle.repository.VehicleImageRepository;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.global.storage.entity.StoredFile;
+import com.usedcar.trading.global.storage.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -32,9 +41,14 @@ public class VehicleService {
     private final VehicleRepository vehicleRepository;
     private final VehicleImageRepository vehicleImageRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCountService viewCountService;
+    private final UniqueViewerService uniqueViewerService;
+    private final TrendingService trendingService;
+    private final FileStorageService fileStorageService;
 
-    // 로컬 파일 저장 경로
-    private final String uploadDir = System.getProperty("user.dir") + "/uploads/";
+    // 커서 조회 1회 최대 건수
+    private static final int MAX_SCROLL_SIZE = 50;
 
     // 매물 등록
     public void register(User user, VehicleRegisterRequest request, List<MultipartFile> imageFiles) throws IOException {
@@ -73,13 +87,48 @@ public class VehicleService {
         }
     }
 
-    // 조회수 증가
-    @Transactional
-    public void increaseViewCount(Long vehicleId) {
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-                .orElseThrow(() -> new IllegalArgumentException("매물 없음"));
+    // 조회수 증가 (메모리에 누적 후 ViewCountService 가 주기적으로 일괄 반영)
+    // viewerKey: 고유 방문자 추정용 키 (회원/세션/IP)
+    // 메모리만 건드리므로 트랜잭션(커넥션)을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void increaseViewCount(Long vehicleId, String viewerKey) {
+        viewCountService.increment(vehicleId);
+        uniqueViewerService.record(vehicleId, viewerKey);
+        trendingService.recordView(vehicleId);
+    }
+
+    // 화면 표시용 조회수 (DB 값 + 아직 반영되지 않은 증가분)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int getViewCount(Vehicle vehicle) {
+        return viewCountService.currentViewCount(vehicle.getVehicleId(), vehicle.getViewCount());
+    }
+
+    // 커서 기반 매물 조회 (무한 스크롤 / 깊은 페이지용)
+    @Transactional(readOnly = true)
+    public Slice<VehicleCard> scrollVehicles(VehicleSearchCondition condition, VehicleCursor cursor, int size) {
+        // 다음 페이지 존재 여부는 Slice 가 size + 1 건 조회로 판단
+        PageRequest limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SCROLL_SIZE));
+
+        if (cursor.getOrder() == VehicleCursor.Order.PRICE) {
+            return vehicleRepository.scrollByPrice(
+                    condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                    condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                    condition.getFuelTypes(), condition.getTransmissions(),
+                    cursor.getPrice(), cursor.getVehicleId(), limit);
+        }
+        return vehicleRepository.scrollLatest(
+                condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                condition.getFuelTypes(), condition.getTransmissions(),
+                cursor.getCreatedAt(), cursor.getVehicleId(), limit);
+    }
+
+    // 조회 결과의 마지막 행으로 다음 커서 생성 (더 없으면 null)
+    public String nextCursor(VehicleCursor.Order order, Slice<VehicleCard> slice) {
+        if (!slice.hasNext() || slice.isEmpty()) return null;
 
-        vehicle.increaseViewCount();
+        VehicleCard last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return VehicleCursor.after(order, last.getCreatedAt(), last.getPrice(), last.getVehicleId()).encode();
     }
 
     // 매물 갱신
@@ -95,41 +144,39 @@ public class VehicleService {
         vehicle.extendExpirationDate();
 
         vehicle.changeStatus(VehicleStatus.PENDING);
+
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
     }
 
     // 이미지 저장 로직
     private void saveImages(Vehicle vehicle, List<MultipartFile> files) throws IOException {
-        File folder = new File(uploadDir);
-        if (!folder.exists()) folder.mkdirs();
-
         for (int i = 0; i < files.size(); i++) {
             MultipartFile file = files.get(i);
             if (file.isEmpty()) continue;
 
-            // 파일명 중복 방지 (UUID 적용)
-            String originalFilename = file.getOriginalFilename();
-            String saveFilename = UUID.randomUUID() + "_" + originalFilename;
-            String filePath = uploadDir + saveFilename;
+            // 내용 해시 기준으로 저장 (같은 사진은 파일 하나를 공유)
+            StoredFile stored = fileStorageService.save(file);
 
-            // 실제 파일 저장
-            file.transferTo(new File(filePath));
-
-            // DB에 저장할 웹 접근 경로 (/uploads/파일명)
-            String webAccessUrl = "/uploads/" + saveFilename;
+            // DB에 저장할 웹 접근 경로 (/uploads/ab/cd/해시.확장자)
+            String webAccessUrl = fileStorageService.urlOf(stored.getPath());
 
             VehicleImage vehicleImage = VehicleImage.builder()
                     .vehicle(vehicle)
                     .imageUrl(webAccessUrl)
+                    .contentHash(stored.getHash())
                     .displayOrder(i)
                     .build();
 
             vehicleImageRepository.save(vehicleImage);
 
-            // 첫 번째 사진을 대표 이미지(Thumbnail)로 설정
+            // 첫 번째 사진을 대표 이미지(Thumbnail)로 설정 (리사이즈 후 카드 크기 사본으로 교체됨)
             if (i == 0) {
                 vehicle.setThumbnailUrl(webAccessUrl);
             }
         }
+
+        // 커밋 이후 크기별 사본 생성
+        eventPublisher.publishEvent(new VehicleImagesUploadedEvent(vehicle.getVehicleId()));
     }
 
     // 옵션 리스트(List<String>)를 JSON 문자열(String)로 변환
@@ -173,6 +220,7 @@ public class VehicleService {
 
         if (imageFiles != null && !imageFiles.isEmpty() && !imageFiles.get(0).isEmpty()) {
             List<VehicleImage> oldImages = vehicleImageRepository.findByVehicleVehicleIdOrderByDisplayOrderAsc(vehicleId);
+            oldImages.forEach(img -> fileStorageService.release(img.getContentHash()));
             vehicleImageRepository.deleteAll(oldImages);
 
             saveImages(vehicle, imageFiles);
@@ -183,6 +231,8 @@ public class VehicleService {
                 vehicle.changeStatus(VehicleStatus.PENDING);
             }
         }
+
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
     }
 
     // 매물 삭제
@@ -204,10 +254,14 @@ public class VehicleService {
             throw new IllegalStateException("거래 중이거나 판매된 매물은 삭제할 수 없습니다.");
         }
 
-        // 3. 이미지 파일 삭제
+        // 3. 이미지 파일 참조 해제 (다른 매물이 공유하지 않으면 정리 대상이 됨)
         //vehicleImageRepository.deleteByVehicle(vehicle);
+        vehicleImageRepository.findByVehicleVehicleIdOrderByDisplayOrderAsc(vehicleId)
+                .forEach(img -> fileStorageService.release(img.getContentHash()));
 
         // 4. DB에서 완전 삭제
         vehicleRepository.delete(vehicle);
+
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicleId));
     }
 }
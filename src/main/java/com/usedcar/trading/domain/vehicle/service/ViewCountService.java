@@ -0,0 +1,102 @@
+package com.usedcar.trading.domain.vehicle.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼
+ * - 상세 조회 시에는 메모리 카운터만 올리고, 주기적으로 모아서 일괄 UPDATE 한다.
+ * - 아직 반영되지 않은 증가분은 getPendingCount 로 조회 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE vehicle SET view_count = view_count + ? WHERE vehicle_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // vehicleId -> 누적 카운터 (LongAdder 가 내부적으로 셀을 나눠 경합을 줄임)
+    // 항목은 지우지 않는다 (지우는 순간 들어온 증가분이 유실될 수 있음, 크기는 매물 수 이내)
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long vehicleId) {
+        counters.computeIfAbsent(vehicleId, id -> new Counter()).total.increment();
+    }
+
+    // DB 에 아직 반영되지 않은 증가분
+    public long getPendingCount(Long vehicleId) {
+        Counter counter = counters.get(vehicleId);
+        return counter == null ? 0 : counter.pending();
+    }
+
+    // DB 값 + 미반영분
+    public int currentViewCount(Long vehicleId, int persistedViewCount) {
+        return (int) (persistedViewCount + getPendingCount(vehicleId));
+    }
+
+    /**
+     * 미반영 조회수를 한 트랜잭션의 JDBC 배치로 반영
+     * - 이 서버의 메모리 카운터를 비우는 작업이므로 서버마다 실행 (@SchedulerLock 대상 아님)
+     */
+    @Scheduled(fixedDelay = 3000)
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+
+        counters.forEach((vehicleId, counter) -> {
+            long delta = counter.pending();
+            if (delta > 0) {
+                ids.add(vehicleId);
+                deltas.add(delta);
+                args.add(new Object[]{delta, vehicleId});
+            }
+        });
+
+        if (args.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+        } catch (Exception e) {
+            // 실패 시 flushed 를 올리지 않으므로 다음 주기에 다시 시도된다
+            log.warn("조회수 반영 실패: {}건, {}", args.size(), e.getMessage());
+            return;
+        }
+
+        // 커밋이 끝난 뒤에만 반영 완료 처리 (total 은 줄이지 않으므로 flush 도중의 증가분도 유실되지 않음)
+        for (int i = 0; i < ids.size(); i++) {
+            counters.get(ids.get(i)).flushed += deltas.get(i);
+        }
+        log.debug("조회수 반영: {}건", args.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static class Counter {
+        private final LongAdder total = new LongAdder();
+        // flush() 에서만 갱신 (synchronized)
+        private volatile long flushed;
+
+        private long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.usedcar.trading.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NotificationDispatchConfig {
+
+    /**
+     * 알림 아웃박스 발송용 스레드
+     * - 한 번 깨우면 쌓인 것을 모두 처리하므로 스레드 1개, 대기 1건이면 충분
+     * - 넘치는 요청은 버림 (NotificationDispatcher 의 주기 실행이 뒤이어 처리)
+     */
+    @Bean(name = "notificationDispatchExecutor")
+    public ThreadPoolTaskExecutor notificationDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("notify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알림 SSE 전송용 스레드
+     * - 느린 연결에 쓰는 동안 스케줄러 / 발송 스레드가 묶이지 않도록 실제 전송은 여기서만 한다.
+     * - 연결마다 작업이 하나씩만 올라오므로 큐는 동시 접속 수 정도, 넘치면 거절되어 해당 연결을 닫음
+     */
+    @Bean(name = "notificationPushExecutor")
+    public ThreadPoolTaskExecutor notificationPushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.usedcar.trading.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class PageAssemblyConfig {
+
+    /**
+     * 화면 조립용 조회 스레드 풀
+     * - 스레드 수 = 동시에 쓸 수 있는 최대 DB 커넥션 수 (Hikari 기본 10개 중 일부만 사용)
+     * - 큐가 차면 요청 스레드에서 직접 실행 (순차 조회로 후퇴)
+     */
+    @Bean(name = "pageAssemblyExecutor")
+    public ThreadPoolTaskExecutor pageAssemblyExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.usedcar.trading.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 실행 스레드 풀 (Spring Boot 기본 스케줄러는 스레드 1개)
+     * - 알림 보관 정리, 업로드 정리, 매물 만료 처리처럼 수 분씩 걸리는 작업이 도는 동안에도
+     *   알림 발송 / 조회수 반영 / SSE heartbeat 같은 짧은 주기 작업이 밀리지 않도록 여러 개 둔다.
+     * - 같은 작업은 앞 실행이 끝나야 다음 실행이 예약되므로 스레드가 늘어도 자기 자신과 겹치지 않는다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(6);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
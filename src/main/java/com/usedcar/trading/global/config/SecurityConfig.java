@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +21,16 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomLoginSuccessHandler customLoginSuccessHandler;
 
+    // 세션 / 인증 정보가 필요 없는 정적 리소스와 업로드 파일 (시큐리티 필터 체인을 거치지 않음)
+    private static final String[] STATIC_PATHS = {
+            "/css/**", "/images/**", "/icons/**", "/js/**", "/libs/**", "/data/**", "/uploads/**", "/favicon.ico"
+    };
+
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers(STATIC_PATHS);
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -29,8 +40,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/h2-console/**").permitAll()
 
-                        // 1. 정적 리소스 및 공용 페이지 (누구나 접근)
-                        .requestMatchers("/css/**", "/images/**", "/icons/**", "/js/**", "/libs/**", "/data/**", "/uploads/**", "/favicon.ico").permitAll()
+                        // 1. 공용 페이지 (누구나 접근, 정적 리소스는 webSecurityCustomizer 에서 제외)
                         .requestMatchers("/", "/search/**", "/vehicles", "/vehicles/{id}", "/auth/**", "/oauth2/**", "/signup", "/login", "/api/**").permitAll()
 
                         // 2. 관리자 전용
@@ -1,18 +1,35 @@
 package com.usedcar.trading.global.config;
 
+import com.usedcar.trading.global.storage.handler.UploadResourceHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
 
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    // 업로드 파일은 캐시 / Range 처리를 하는 전용 핸들러로 서비스 (컨트롤러 어드바이스도 거치지 않음)
+    @Bean
+    public SimpleUrlHandlerMapping uploadHandlerMapping(UploadResourceHandler uploadResourceHandler) {
+        return new SimpleUrlHandlerMapping(Map.of("/uploads/**", uploadResourceHandler), Ordered.HIGHEST_PRECEDENCE);
+    }
 
-        String uploadPath = "file:///" + System.getProperty("user.dir") + "/uploads/";
+    // open-in-view 를 직접 등록 (이 빈이 있으면 스프링 부트 기본 등록은 생략됨)
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
 
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(uploadPath);
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // SSE 연결은 수십 분 유지되므로 제외 (열어 두면 조회에 쓴 DB 커넥션을 연결이 끝날 때까지 잡고 있음)
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns("/notifications/stream");
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,11 @@ package com.usedcar.trading.global.home.controller;
 import com.usedcar.trading.domain.favorite.service.FavoriteService;
 import com.usedcar.trading.domain.user.entity.User;
 import com.usedcar.trading.domain.user.repository.UserRepository;
-import com.usedcar.trading.domain.vehicle.entity.Vehicle;
-import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
 import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.global.home.dto.HomeRails;
+import com.usedcar.trading.global.home.service.HomeRailService;
+import com.usedcar.trading.global.page.PageAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,60 +20,55 @@ import org.springframework.web.bind.annotation.GetMapping;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequiredArgsConstructor
 public class HomeController {
 
     private final VehicleRepository vehicleRepository;
+    private final HomeRailService homeRailService;
     private final FavoriteService favoriteService;
     private final UserRepository userRepository;
+    private final PageAssembler pageAssembler;
 
     @GetMapping("/")
     public String home(Model model,
                        @CookieValue(value = "recent_cars", required = false) String cookieValue,
                        @AuthenticationPrincipal Object principal) {
 
-        // 1. 최근 등록된 차량 (Top 8)
-        List<Vehicle> recentVehicles = vehicleRepository.findByVehicleStatusOrderByCreatedAtDesc(VehicleStatus.SALE)
-                .stream().limit(8).collect(Collectors.toList());
-        model.addAttribute("recentVehicles", recentVehicles);
+        // 1, 2. 최근 등록된 차량 / 조회수가 높은 차량 (Top 8, 캐시된 스냅샷)
+        HomeRails rails = homeRailService.getRails();
+        model.addAttribute("recentVehicles", rails.getRecentVehicles());
+        model.addAttribute("popularVehicles", rails.getPopularVehicles());
 
-        // 2. 조회수가 높은 차량 (Top 8)
-        List<Vehicle> popularVehicles = vehicleRepository.findByVehicleStatusOrderByViewCountDesc(VehicleStatus.SALE)
-                .stream().limit(8).collect(Collectors.toList());
-        model.addAttribute("popularVehicles", popularVehicles);
-
-        // 3. 최근 본 차량 (쿠키)
-        List<Vehicle> recentViewedCars = new ArrayList<>();
+        // 3. 최근 본 차량 (쿠키) / 4. 찜한 매물 ID - 서로 독립적이므로 동시에 조회
+        List<Long> idList = new ArrayList<>();
         if (cookieValue != null && !cookieValue.isEmpty()) {
             String[] ids = cookieValue.split("\\|");
-            List<Long> idList = new ArrayList<>();
             for (String s : ids) {
                 try { idList.add(Long.parseLong(s)); } catch (NumberFormatException ignored) {}
             }
-            if (!idList.isEmpty()) {
-                recentViewedCars = vehicleRepository.findAllById(idList);
-            }
         }
-        model.addAttribute("recentViewedCars", recentViewedCars);
 
-        List<Long> userFavoriteIds = new ArrayList<>();
-        if (principal != null) {
-            User user = findUser(principal);
-            if (user != null) {
-                userFavoriteIds = favoriteService.getMyFavorites(user.getUserId())
-                        .stream()
-                        .map(f -> f.getVehicle().getVehicleId())
-                        .collect(Collectors.toList());
-            }
-        }
-        model.addAttribute("userFavoriteIds", userFavoriteIds);
+        CompletableFuture<List<VehicleCard>> recentViewedFuture = idList.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : pageAssembler.fork("recentViewedCars", () -> vehicleRepository.findCardsByIdIn(idList), List.of());
+        CompletableFuture<List<Long>> favoriteIdsFuture = principal == null
+                ? CompletableFuture.completedFuture(List.of())
+                : pageAssembler.fork("userFavoriteIds", () -> findUserFavoriteIds(principal), List.of());
+
+        model.addAttribute("recentViewedCars", recentViewedFuture.join());
+        model.addAttribute("userFavoriteIds", favoriteIdsFuture.join());
 
         return "index";
     }
 
+    private List<Long> findUserFavoriteIds(Object principal) {
+        User user = findUser(principal);
+        return user != null ? favoriteService.getMyFavoriteVehicleIds(user.getUserId()) : List.of();
+    }
+
     private User findUser(Object principal) {
         if (principal instanceof UserDetails) {
             String email = ((UserDetails) principal).getUsername();
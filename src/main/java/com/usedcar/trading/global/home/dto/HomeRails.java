@@ -0,0 +1,25 @@
+package com.usedcar.trading.global.home.dto;
+
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메인 페이지 매물 레일 스냅샷 (불변)
+ * - 한 번 만들어지면 수정하지 않고 통째로 교체한다.
+ */
+@Getter
+public class HomeRails {
+
+    private final List<VehicleCard> recentVehicles;
+    private final List<VehicleCard> popularVehicles;
+    private final LocalDateTime builtAt;
+
+    public HomeRails(List<VehicleCard> recentVehicles, List<VehicleCard> popularVehicles) {
+        this.recentVehicles = List.copyOf(recentVehicles);
+        this.popularVehicles = List.copyOf(popularVehicles);
+        this.builtAt = LocalDateTime.now();
+    }
+}
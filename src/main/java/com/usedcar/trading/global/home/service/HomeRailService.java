@@ -0,0 +1,123 @@
+package com.usedcar.trading.global.home.service;
+
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.event.VehicleChangedEvent;
+import com.usedcar.trading.domain.vehicle.event.VehiclesExpiredEvent;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.domain.vehicle.service.TrendingService;
+import com.usedcar.trading.global.home.dto.HomeRails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 페이지 "최근 등록" / "인기(트렌딩)" 레일 캐시
+ * - 요청 스레드는 volatile 참조만 읽는다 (락 없음).
+ * - 스케줄러 스레드가 매물 변경 이벤트가 있었거나 주기가 지나면 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeRailService {
+
+    public static final int RAIL_SIZE = 8;
+
+    // 매물 변경이 없어도 트렌딩 점수/조회수 변화 반영을 위해 주기적으로 갱신
+    private static final long MAX_AGE_MILLIS = 60_000;
+
+    private final VehicleRepository vehicleRepository;
+    private final TrendingService trendingService;
+
+    private volatile HomeRails rails;
+    private volatile long builtAtMillis;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public HomeRails getRails() {
+        HomeRails current = rails;
+        if (current == null) {
+            // 기동 직후 아직 스냅샷이 없으면 한 번 직접 만든다
+            current = refresh();
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehiclesExpired(VehiclesExpiredEvent event) {
+        dirty.set(true);
+    }
+
+    // 서버마다 가진 메모리 캐시라 @SchedulerLock 없이 모든 서버에서 실행
+    @Scheduled(fixedDelay = 5000)
+    public void refreshIfStale() {
+        boolean expired = System.currentTimeMillis() - builtAtMillis >= MAX_AGE_MILLIS;
+        if (dirty.get() || expired) {
+            refresh();
+        }
+    }
+
+    private synchronized HomeRails refresh() {
+        // 조회 시작 전에 플래그를 내려야 조회 도중 들어온 변경이 다음 주기에 반영된다
+        dirty.set(false);
+        PageRequest top = PageRequest.of(0, RAIL_SIZE);
+        HomeRails built = new HomeRails(
+                vehicleRepository.findRecentCards(VehicleStatus.SALE, top),
+                trendingCards(top)
+        );
+        rails = built;
+        builtAtMillis = System.currentTimeMillis();
+        log.debug("메인 레일 갱신: recent={}, popular={}", built.getRecentVehicles().size(), built.getPopularVehicles().size());
+        return built;
+    }
+
+    // 인기 레일: 트렌딩 점수 상위 판매중 매물, 모자라면 누적 인기순으로 채움
+    private List<VehicleCard> trendingCards(PageRequest top) {
+        // 판매중이 아닌 매물이 섞여 있을 수 있어 여유 있게 뽑는다
+        List<Long> rankedIds = trendingService.topK(RAIL_SIZE * 2);
+
+        List<VehicleCard> result = new ArrayList<>(RAIL_SIZE);
+        if (!rankedIds.isEmpty()) {
+            Map<Long, VehicleCard> found = vehicleRepository.findCardsByIdIn(rankedIds).stream()
+                    .collect(Collectors.toMap(VehicleCard::getVehicleId, c -> c));
+            for (Long id : rankedIds) {
+                VehicleCard card = found.get(id);
+                if (card == null || card.getVehicleStatus() != VehicleStatus.SALE) {
+                    trendingService.remove(id);
+                    continue;
+                }
+                if (result.size() < RAIL_SIZE) result.add(card);
+            }
+        }
+
+        if (result.size() < RAIL_SIZE) {
+            Set<Long> included = result.stream().map(VehicleCard::getVehicleId).collect(Collectors.toSet());
+            for (VehicleCard card : vehicleRepository.findPopularCards(VehicleStatus.SALE, top)) {
+                if (result.size() >= RAIL_SIZE) break;
+                if (!included.contains(card.getVehicleId())) result.add(card);
+            }
+        }
+        return result;
+    }
+}
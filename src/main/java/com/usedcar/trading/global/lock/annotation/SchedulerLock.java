@@ -0,0 +1,27 @@
+package com.usedcar.trading.global.lock.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 서버 여러 대 중 한 곳에서만 실행할 @Scheduled 작업 표시 (job_lock 테이블의 임대 사용)
+ * - 임대를 얻지 못하면 실행하지 않고 건너뛴다. (void 메서드에만 사용)
+ * - partitions > 1 이면 vehicleId 를 partitions 개 구간으로 나눠 구간마다 따로 임대를 잡는다.
+ *   서버마다 비어 있는 구간을 골라 실행하므로 여러 서버가 나눠서 처리한다. (SchedulerPartition 참고)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    String name();
+
+    // 실행 중 서버가 죽어도 이 시간이 지나면 다른 서버가 임대를 가져갈 수 있음 (작업 최대 소요 시간보다 길게)
+    long lockAtMostMillis();
+
+    // 일찍 끝나도 이 시간까지는 임대 유지 (서버 간 시계 차이로 같은 주기에 두 번 실행되는 것 방지)
+    long lockAtLeastMillis() default 0;
+
+    int partitions() default 1;
+}
@@ -0,0 +1,33 @@
+package com.usedcar.trading.global.lock.config;
+
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import com.usedcar.trading.global.lock.service.JobLockService;
+import com.usedcar.trading.global.lock.service.SchedulerLockInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class SchedulerLockConfig {
+
+    /**
+     * @SchedulerLock 메서드에 임대 처리 적용
+     * - 트랜잭션 어드바이스와 같은 자동 프록시에 올라가도록 인프라 역할로 등록
+     * - 트랜잭션보다 바깥에서 실행 (임대를 못 얻으면 트랜잭션을 열지 않음)
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor schedulerLockAdvisor(ObjectProvider<JobLockService> jobLockService) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SchedulerLock.class),
+                new SchedulerLockInterceptor(jobLockService));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
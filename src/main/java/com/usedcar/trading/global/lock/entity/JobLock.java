@@ -0,0 +1,33 @@
+package com.usedcar.trading.global.lock.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대 (작업 이름 / 구간별 한 행)
+ * - lockUntil 이 지난 행만 다른 서버가 가져갈 수 있다.
+ * - 행 생성 / 갱신은 JobLockService 가 JDBC 로 처리하고, 엔티티는 테이블 정의용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    // 임대를 가진 서버 + 임대 토큰 (해제 시 본인 임대인지 확인)
+    @Column(nullable = false)
+    private String lockedBy;
+}
@@ -0,0 +1,82 @@
+package com.usedcar.trading.global.lock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * job_lock 테이블 기반 작업 임대 (외부 서비스 없이 DB 만 사용)
+ * - 획득: 만료된 행을 조건부 UPDATE, 행이 없으면 INSERT (동시에 INSERT 하면 한 곳만 성공)
+ * - 해제: 본인 토큰일 때만 lockUntil 을 max(지금, 획득 시각 + lockAtLeast) 로 당김
+ * - 호출한 쪽 트랜잭션과 무관하게 항상 별도 트랜잭션으로 바로 커밋한다.
+ * - 서버 시계 기준이므로 서버 간 시계 차이보다 lockAtLeast 를 길게 잡는다.
+ */
+@Slf4j
+@Service
+public class JobLockService {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE job_lock SET lock_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND lock_until <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO job_lock (name, lock_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE job_lock SET lock_until = ? WHERE name = ? AND locked_by = ?";
+
+    // pid@hostname
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JobLockService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 임대 획득
+     * @return 해제할 때 쓸 토큰 (다른 서버가 가지고 있으면 null)
+     */
+    public String tryAcquire(String name, LocalDateTime now, long lockAtMostMillis) {
+        String token = nodeId + "/" + UUID.randomUUID();
+        Timestamp lockedAt = Timestamp.valueOf(now);
+        Timestamp lockUntil = Timestamp.valueOf(now.plusNanos(lockAtMostMillis * 1_000_000));
+
+        try {
+            return transactionTemplate.execute(status -> {
+                int updated = jdbcTemplate.update(ACQUIRE_SQL, lockUntil, lockedAt, token, name, lockedAt);
+                if (updated == 0) {
+                    // 처음 실행되는 작업이거나 다른 서버가 잡고 있는 경우 (후자는 PK 중복으로 실패)
+                    jdbcTemplate.update(INSERT_SQL, name, lockUntil, lockedAt, token);
+                }
+                return token;
+            });
+        } catch (DataIntegrityViolationException e) {
+            return null;
+        }
+    }
+
+    public void release(String name, String token, LocalDateTime lockedAt, long lockAtLeastMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime atLeast = lockedAt.plusNanos(lockAtLeastMillis * 1_000_000);
+        LocalDateTime lockUntil = atLeast.isAfter(now) ? atLeast : now;
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(lockUntil), name, token));
+        } catch (RuntimeException e) {
+            // 해제에 실패해도 lockAtMost 가 지나면 풀림
+            log.warn("작업 임대 해제 실패: {}, {}", name, e.getMessage());
+        }
+    }
+}
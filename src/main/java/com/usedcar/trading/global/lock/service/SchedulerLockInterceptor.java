@@ -0,0 +1,70 @@
+package com.usedcar.trading.global.lock.service;
+
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @SchedulerLock 메서드 실행 전후로 임대 획득 / 해제
+ * - 구간을 나눈 작업은 임의의 구간부터 돌면서 잡을 수 있는 구간마다 한 번씩 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SchedulerLockInterceptor implements MethodInterceptor {
+
+    // 스케줄러 빈보다 먼저 만들어지므로 지연 조회
+    private final ObjectProvider<JobLockService> jobLockService;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = invocation.getThis() == null ? null : AopUtils.getTargetClass(invocation.getThis());
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        SchedulerLock lock = AnnotationUtils.findAnnotation(method, SchedulerLock.class);
+        if (lock == null) return invocation.proceed();
+
+        if (lock.partitions() <= 1) {
+            runLocked(lock.name(), lock, invocation, -1);
+            return null;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(lock.partitions());
+        for (int i = 0; i < lock.partitions(); i++) {
+            int partition = (start + i) % lock.partitions();
+            try {
+                // 같은 호출을 구간마다 다시 진행하므로 복제해서 사용
+                runLocked(lock.name() + "#" + partition, lock,
+                        ((ProxyMethodInvocation) invocation).invocableClone(), partition);
+            } catch (Exception e) {
+                log.error("스케줄 작업 실패: {}#{}", lock.name(), partition, e);
+            }
+        }
+        return null;
+    }
+
+    private void runLocked(String name, SchedulerLock lock, MethodInvocation invocation, int partition) throws Throwable {
+        LocalDateTime lockedAt = LocalDateTime.now();
+        String token = jobLockService.getObject().tryAcquire(name, lockedAt, lock.lockAtMostMillis());
+        if (token == null) {
+            log.debug("다른 서버에서 실행 중, 건너뜀: {}", name);
+            return;
+        }
+
+        try {
+            if (partition >= 0) SchedulerPartition.set(partition, lock.partitions());
+            invocation.proceed();
+        } finally {
+            SchedulerPartition.clear();
+            jobLockService.getObject().release(name, token, lockedAt, lock.lockAtLeastMillis());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.usedcar.trading.global.lock.service;
+
+/**
+ * 현재 실행 중인 작업이 맡은 vehicleId 구간 (SchedulerLock.partitions)
+ * - 구간은 vehicleId % count == index 로 나눈다. (id 가 늘어나도 구간이 흔들리지 않음)
+ * - 나누지 않는 작업 / 스케줄러 밖의 호출이면 전체(0 / 1)
+ */
+public final class SchedulerPartition {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private SchedulerPartition() {
+    }
+
+    public static int index() {
+        int[] current = CURRENT.get();
+        return current == null ? 0 : current[0];
+    }
+
+    public static int count() {
+        int[] current = CURRENT.get();
+        return current == null ? 1 : current[1];
+    }
+
+    static void set(int index, int count) {
+        CURRENT.set(new int[]{index, count});
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,53 @@
+package com.usedcar.trading.global.page;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 화면에 필요한 독립 조회들을 동시에 실행
+ * - 조회마다 제한 시간을 두고, 시간 초과/실패 시 fallback 값으로 완료된다 (join 시 예외 없음).
+ * - 조회는 같은 제한 시간의 읽기 전용 트랜잭션 안에서 실행되어, 느린 쿼리도 JDBC 쿼리 타임아웃으로 끊기고
+ *   스레드와 커넥션을 돌려준다. (orTimeout 은 future 만 완료시킬 뿐 작업을 멈추지 않음)
+ * - 결과는 다른 스레드에서 만들어지므로 지연 로딩이 필요 없는 값(DTO, fetch join 결과)만 넘길 것
+ */
+@Slf4j
+@Component
+public class PageAssembler {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2000;
+
+    private final Executor executor;
+    private final PlatformTransactionManager transactionManager;
+
+    public PageAssembler(@Qualifier("pageAssemblyExecutor") Executor executor,
+                         PlatformTransactionManager transactionManager) {
+        this.executor = executor;
+        this.transactionManager = transactionManager;
+    }
+
+    public <T> CompletableFuture<T> fork(String name, Supplier<T> task, T fallback) {
+        return fork(name, task, fallback, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public <T> CompletableFuture<T> fork(String name, Supplier<T> task, T fallback, long timeoutMillis) {
+        // 트랜잭션 타임아웃이 남은 시간만큼 각 쿼리의 JDBC 타임아웃으로 적용된다 (초 단위, 올림)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+
+        return CompletableFuture.supplyAsync(() -> readOnly.execute(status -> task.get()), executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("화면 조회 실패, 기본값 사용: {} ({})", name, e.toString());
+                    return fallback;
+                });
+    }
+}
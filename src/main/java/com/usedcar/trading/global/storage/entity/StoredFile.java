@@ -0,0 +1,45 @@
+package com.usedcar.trading.global.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 기반(SHA-256) 저장 파일
+ * - 같은 내용의 업로드는 파일 하나를 공유하고 refCount 로 사용처 수를 센다.
+ * - refCount 가 0 이 되면 releasedAt 을 기록하고, 실제 삭제는 정리 작업이 맡는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    // 업로드 루트 기준 상대 경로 (ab/cd/<hash>.<ext>)
+    @Column(nullable = false)
+    private String path;
+
+    private long size;
+
+    private int refCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime releasedAt;
+
+    public void acquire() {
+        this.refCount++;
+        this.releasedAt = null;
+    }
+
+    public void release() {
+        if (this.refCount > 0) this.refCount--;
+        if (this.refCount == 0) this.releasedAt = LocalDateTime.now();
+    }
+}
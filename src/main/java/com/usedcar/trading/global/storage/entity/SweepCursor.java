@@ -0,0 +1,33 @@
+package com.usedcar.trading.global.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 정리 작업 진행 위치
+ * - 재기동해도 이어서 돌 수 있도록 마지막으로 확인한 상대 경로를 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SweepCursor {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 업로드 루트 기준 상대 경로 ("" 이면 처음부터)
+    @Column(length = 500, nullable = false)
+    private String position;
+
+    private LocalDateTime updatedAt;
+
+    public void moveTo(String position) {
+        this.position = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
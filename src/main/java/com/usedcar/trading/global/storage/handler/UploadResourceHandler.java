@@ -0,0 +1,165 @@
+package com.usedcar.trading.global.storage.handler;
+
+import com.usedcar.trading.global.storage.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/** 파일 서빙
+ * - 내용 해시 파일명은 바뀌지 않으므로 1년 immutable 캐시, 해시를 그대로 강한 ETag 로 사용
+ * - If-None-Match / If-Modified-Since 는 304, Range 요청은 206 (단일 구간만)
+ * - Tomcat sendfile 을 지원하면 커널에 전송을 맡기고, 아니면 FileChannel.transferTo 로 복사
+ * - 래스터 이미지만 inline 으로 내려주고 나머지(SVG 포함)는 octet-stream 첨부로 내려 업로드 파일이 스크립트로 실행되지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadResourceHandler implements HttpRequestHandler {
+
+    private static final String PATH_PREFIX = "/uploads/";
+
+    // <sha256>.<ext> 또는 <sha256>_thumb.jpg 같은 사본
+    private static final Pattern HASHED_NAME = Pattern.compile("[0-9a-f]{64}(_[a-z]+)?\\.[a-z0-9]+");
+
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    private static final String DEFAULT_CACHE = "public, max-age=3600";
+
+    // 브라우저에서 바로 보여줄 형식 (나머지는 다운로드)
+    private static final Set<String> INLINE_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp", "image/bmp");
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final FileStorageService fileStorageService;
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(request);
+        if (file == null || !Files.isRegularFile(file)) {
+            // 에러 페이지로 포워드하지 않고 상태 코드만 (에러 페이지는 시큐리티 체인을 다시 탐)
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String name = file.getFileName().toString();
+        boolean hashed = HASHED_NAME.matcher(name).matches();
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = hashed
+                ? "\"" + name.substring(0, name.lastIndexOf('.')) + "\""
+                : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, hashed ? IMMUTABLE_CACHE : DEFAULT_CACHE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        // ETag / Last-Modified 헤더 설정 + 304(또는 412) 처리
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String contentType = request.getServletContext().getMimeType(name);
+        if (contentType != null && INLINE_TYPES.contains(contentType)) {
+            response.setContentType(contentType);
+        } else {
+            response.setContentType("application/octet-stream");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name).build().toString());
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start < 0 || start >= length || end < start) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // 요청 경로 -> 업로드 루트 아래 실제 파일 (루트 밖이나 임시 폴더면 null)
+    private Path resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(PATH_PREFIX)) return null;
+
+        String relative = UriUtils.decode(path.substring(PATH_PREFIX.length()), StandardCharsets.UTF_8);
+        if (relative.isEmpty() || relative.startsWith("tmp/")) return null;
+
+        try {
+            return fileStorageService.resolve(relative);
+        } catch (IllegalArgumentException e) {
+            log.debug("업로드 경로 거부: {}", path);
+            return null;
+        }
+    }
+
+    // 단일 구간 Range 만 처리, If-Range 가 현재 ETag 와 다르면 전체 응답
+    private HttpRange requestedRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) return null;
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) return null;
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.usedcar.trading.global.storage.repository;
+
+import com.usedcar.trading.global.storage.entity.StoredFile;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    // 참조 수 변경용 (동시에 같은 파일을 올리거나 지울 때 카운트 유실 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.hash = :hash")
+    Optional<StoredFile> findForUpdate(@Param("hash") String hash);
+}
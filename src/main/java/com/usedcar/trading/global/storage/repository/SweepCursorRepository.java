@@ -0,0 +1,9 @@
+package com.usedcar.trading.global.storage.repository;
+
+import com.usedcar.trading.global.storage.entity.SweepCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SweepCursorRepository extends JpaRepository<SweepCursor, String> {
+}
@@ -0,0 +1,210 @@
+package com.usedcar.trading.global.storage.scheduler;
+
+import com.usedcar.trading.domain.vehicle.entity.VehicleImage;
+import com.usedcar.trading.domain.vehicle.repository.VehicleImageRepository;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import com.usedcar.trading.global.lock.annotation.SchedulerLock;
+import com.usedcar.trading.global.storage.entity.StoredFile;
+import com.usedcar.trading.global.storage.entity.SweepCursor;
+import com.usedcar.trading.global.storage.repository.StoredFileRepository;
+import com.usedcar.trading.global.storage.repository.SweepCursorRepository;
+import com.usedcar.trading.global.storage.service.FileStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 폴더 정리 작업
+ * - 경로 순서로 조금씩 훑고, 마지막 위치를 DB 에 저장해 다음 실행에서 이어간다.
+ * - 배치 단위로 매물 사진 / 대표 이미지 경로, StoredFile 참조 수와 비교해 쓰이지 않는 파일만 지운다.
+ * - 업로드 중이거나 막 해제된 파일을 지우지 않도록 유예 시간이 지난 것만 대상으로 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadSweeper {
+
+    private static final String CURSOR_NAME = "uploads";
+
+    // 한 번 실행에 확인할 파일 수 / 지울 파일 수
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_DELETES_PER_RUN = 100;
+
+    // 디스크 I/O 양보 (서빙에 영향 주지 않도록)
+    private static final int PAUSE_EVERY = 100;
+    private static final long PAUSE_MILLIS = 20;
+    private static final long DELETE_PAUSE_MILLIS = 10;
+
+    private static final long GRACE_HOURS = 24;
+
+    // <sha256>.<ext> / <sha256>_<사본>.jpg
+    private static final Pattern HASHED_NAME = Pattern.compile("([0-9a-f]{64})(_[a-z]+)?\\.[a-z0-9]+");
+
+    private final FileStorageService fileStorageService;
+    private final StoredFileRepository storedFileRepository;
+    private final SweepCursorRepository sweepCursorRepository;
+    private final VehicleImageRepository vehicleImageRepository;
+    private final VehicleRepository vehicleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 60_000)
+    @SchedulerLock(name = "upload-sweep", lockAtMostMillis = 10 * 60_000, lockAtLeastMillis = 50_000)
+    public void sweep() {
+        Path root = fileStorageService.getRoot();
+        if (!Files.isDirectory(root)) return;
+
+        SweepCursor cursor = sweepCursorRepository.findById(CURSOR_NAME)
+                .orElseGet(() -> SweepCursor.builder().name(CURSOR_NAME).position("").build());
+
+        try {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            listAfter(root, "", cursor.getPosition(), batch);
+
+            if (batch.isEmpty()) {
+                // 한 바퀴 끝, 다음 실행은 처음부터
+                if (!cursor.getPosition().isEmpty()) log.info("업로드 정리 한 바퀴 완료");
+                cursor.moveTo("");
+            } else {
+                cursor.moveTo(process(root, batch));
+            }
+            sweepCursorRepository.save(cursor);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("업로드 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 배치 처리 후 마지막으로 확인한 경로 반환 (삭제 한도에 걸리면 그 지점에서 멈춤)
+    private String process(Path root, List<String> batch) throws IOException, InterruptedException {
+        References refs = loadReferences(batch);
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(GRACE_HOURS);
+
+        String last = batch.get(0);
+        int deleted = 0;
+        for (String relative : batch) {
+            if (deleted >= MAX_DELETES_PER_RUN) break;
+            last = relative;
+
+            if (refs.urls.contains(fileStorageService.urlOf(relative))) continue;
+
+            Path file = root.resolve(relative);
+            Matcher matcher = HASHED_NAME.matcher(file.getFileName().toString());
+            StoredFile stored = matcher.matches() ? refs.storedFiles.get(matcher.group(1)) : null;
+
+            if (stored != null) {
+                // 원본이 관리 중이면 원본 단위로 회수 (사본은 원본과 함께 지워짐)
+                if (matcher.group(2) != null || stored.getRefCount() > 0) continue;
+                int count = fileStorageService.reclaim(stored.getHash(), cutoff);
+                if (count > 0) {
+                    deleted += count;
+                    log.info("해제된 업로드 회수: {} ({}개)", stored.getPath(), count);
+                    Thread.sleep(DELETE_PAUSE_MILLIS);
+                }
+            } else if (isOlderThan(file, cutoff) && Files.deleteIfExists(file)) {
+                // 어디에도 기록되지 않은 파일 (옛 UUID 파일명, 중단된 업로드 임시 파일 등)
+                deleted++;
+                log.info("참조 없는 업로드 삭제: {}", relative);
+                Thread.sleep(DELETE_PAUSE_MILLIS);
+            }
+        }
+
+        if (deleted > 0) log.info("업로드 정리: 확인 {}개 중 {}개 삭제", batch.size(), deleted);
+        return last;
+    }
+
+    // 배치에 속한 경로를 쓰는 DB 기록을 한 번에 조회
+    private References loadReferences(List<String> batch) {
+        Set<String> urls = batch.stream().map(fileStorageService::urlOf).collect(Collectors.toSet());
+        Set<String> hashes = new HashSet<>();
+        for (String relative : batch) {
+            Matcher matcher = HASHED_NAME.matcher(relative.substring(relative.lastIndexOf('/') + 1));
+            if (matcher.matches()) hashes.add(matcher.group(1));
+        }
+
+        return transactionTemplate.execute(status -> {
+            References refs = new References();
+            for (VehicleImage image : vehicleImageRepository.findReferencing(urls)) {
+                refs.urls.add(image.getImageUrl());
+                refs.urls.add(image.getThumbnailUrl());
+                refs.urls.add(image.getCardUrl());
+                refs.urls.add(image.getDetailUrl());
+            }
+            refs.urls.addAll(vehicleRepository.findThumbnailUrlsIn(urls));
+            refs.storedFiles = storedFileRepository.findAllById(hashes).stream()
+                    .collect(Collectors.toMap(StoredFile::getHash, Function.identity()));
+            return refs;
+        });
+    }
+
+    /**
+     * cursor 보다 뒤에 오는 파일을 경로 순서대로 out 에 채운다 (최대 BATCH_SIZE)
+     * - 폴더는 "이름/" 으로 정렬해서 깊이 우선 순서와 전체 경로 문자열 순서를 일치시킨다.
+     * - cursor 보다 앞선 폴더는 열지 않는다.
+     */
+    private void listAfter(Path dir, String prefix, String cursor, List<String> out) throws IOException, InterruptedException {
+        List<Entry> children = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path child : stream) {
+                boolean directory = Files.isDirectory(child);
+                String relative = prefix + child.getFileName() + (directory ? "/" : "");
+                children.add(new Entry(child, relative, directory));
+            }
+        }
+        children.sort(Comparator.comparing(e -> e.relative));
+
+        for (Entry entry : children) {
+            if (out.size() >= BATCH_SIZE) return;
+
+            if (entry.directory) {
+                if (entry.relative.compareTo(cursor) < 0 && !cursor.startsWith(entry.relative)) continue;
+                listAfter(entry.path, entry.relative, cursor, out);
+            } else if (entry.relative.compareTo(cursor) > 0) {
+                out.add(entry.relative);
+                if (out.size() % PAUSE_EVERY == 0) Thread.sleep(PAUSE_MILLIS);
+            }
+        }
+    }
+
+    private boolean isOlderThan(Path file, LocalDateTime cutoff) throws IOException {
+        if (!Files.isRegularFile(file)) return false;
+        long cutoffMillis = cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Files.getLastModifiedTime(file).toMillis() < cutoffMillis;
+    }
+
+    private static class Entry {
+        private final Path path;
+        private final String relative;
+        private final boolean directory;
+
+        private Entry(Path path, String relative, boolean directory) {
+            this.path = path;
+            this.relative = relative;
+            this.directory = directory;
+        }
+    }
+
+    private static class References {
+        private final Set<String> urls = new HashSet<>();
+        private Map<String, StoredFile> storedFiles = Map.of();
+    }
+}
@@ -0,0 +1,235 @@
+package com.usedcar.trading.global.storage.service;
+
+import com.usedcar.trading.global.storage.entity.StoredFile;
+import com.usedcar.trading.global.storage.repository.StoredFileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 업로드 파일 저장소 (내용 기반 주소)
+ * - 스트리밍하면서 SHA-256 을 계산하고, uploads/ab/cd/<hash>.<ext> 에 저장한다.
+ * - 같은 내용이면 기존 파일을 재사용하고 참조 수만 올린다.
+ * - stored_file 행은 별도 트랜잭션으로 먼저 만들어 두고(참조 0, 동시에 만들면 PK 중복은 무시),
+ *   호출한 트랜잭션에서는 그 행을 잠근 뒤 파일을 채우고 참조 수를 올린다.
+ *   호출한 트랜잭션이 롤백되면 참조 0 인 행으로 남아 정리 작업이 유예 시간 후 회수한다.
+ * - 웹 경로는 /uploads/ab/cd/<hash>.<ext> (WebMvcConfig 의 /uploads/** 핸들러로 서비스)
+ */
+@Slf4j
+@Service
+public class FileStorageService {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 저장 파일명에 그대로 쓰는 확장자 (그 외는 bin 으로 저장되어 다운로드로만 서빙됨)
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp", "bmp");
+
+    // 행을 만든 직후 정리 작업이 먼저 회수해 버린 경우 다시 만드는 횟수
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO stored_file (hash, path, size, ref_count, created_at, released_at) VALUES (?, ?, ?, 0, ?, ?)";
+
+    private final StoredFileRepository storedFileRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final Path root = Paths.get(System.getProperty("user.dir"), "uploads").toAbsolutePath().normalize();
+
+    public FileStorageService(StoredFileRepository storedFileRepository, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.storedFileRepository = storedFileRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 업로드 저장 + 참조 수 증가
+     */
+    @Transactional
+    public StoredFile save(MultipartFile file) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = writeTemp(file, digest);
+        try {
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relativePath = shardPath(hash) + "." + extensionOf(file.getOriginalFilename());
+
+            long size = Files.size(temp);
+
+            StoredFile stored = null;
+            for (int attempt = 1; stored == null; attempt++) {
+                if (attempt > MAX_REGISTER_ATTEMPTS) {
+                    throw new IllegalStateException("파일 정보를 저장하지 못했습니다: " + hash);
+                }
+                // 없는 행을 잠그면(갭 락) 별도 트랜잭션의 INSERT 가 막히므로 존재 확인은 잠금 없이 한다
+                if (!storedFileRepository.existsById(hash)) {
+                    register(hash, relativePath, size);
+                }
+                stored = storedFileRepository.findForUpdate(hash).orElse(null);
+            }
+
+            // 행 잠금을 잡은 뒤에 파일을 채우므로 같은 내용의 동시 업로드, 회수 작업과 겹치지 않는다
+            if (!Files.exists(root.resolve(stored.getPath()))) {
+                moveIntoPlace(temp, root.resolve(stored.getPath()));
+            } else {
+                log.debug("중복 업로드 재사용: {}", stored.getPath());
+            }
+
+            stored.acquire();
+            return stored;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 참조 수 감소 (0 이 되어도 파일은 바로 지우지 않음)
+     */
+    @Transactional
+    public void release(String hash) {
+        if (hash == null) return;
+        storedFileRepository.findForUpdate(hash).ifPresent(StoredFile::release);
+    }
+
+    /**
+     * 참조가 끝난 지 유예 시간이 지난 파일 회수 (원본 + 같은 폴더의 크기별 사본)
+     * - 행 잠금 후 다시 확인하므로 그 사이 같은 내용이 다시 올라오면 지우지 않는다.
+     * @return 삭제한 파일 수
+     */
+    @Transactional
+    public int reclaim(String hash, LocalDateTime releasedBefore) throws IOException {
+        StoredFile stored = storedFileRepository.findForUpdate(hash).orElse(null);
+        if (stored == null || stored.getRefCount() > 0
+                || stored.getReleasedAt() == null || !stored.getReleasedAt().isBefore(releasedBefore)) {
+            return 0;
+        }
+
+        Path blob = root.resolve(stored.getPath());
+        int deleted = Files.deleteIfExists(blob) ? 1 : 0;
+        Path dir = blob.getParent();
+        if (Files.isDirectory(dir)) {
+            try (DirectoryStream<Path> renditions = Files.newDirectoryStream(dir, hash + "_*")) {
+                for (Path rendition : renditions) {
+                    if (Files.deleteIfExists(rendition)) deleted++;
+                }
+            }
+        }
+        storedFileRepository.delete(stored);
+        return deleted;
+    }
+
+    // 웹 경로 -> 디스크 경로 (업로드 루트 밖을 가리키면 예외)
+    public Path resolve(String url) {
+        String relative = url.startsWith(URL_PREFIX) ? url.substring(URL_PREFIX.length()) : url;
+        Path path = root.resolve(relative).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    public String urlOf(String relativePath) {
+        return URL_PREFIX + relativePath;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // 참조 0 인 행을 별도 트랜잭션으로 커밋 (이미 있으면 PK 중복 -> 그대로 사용)
+    private void register(String hash, String relativePath, long size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_SQL, hash, relativePath, size, now, now));
+        } catch (DuplicateKeyException e) {
+            log.debug("이미 등록된 파일: {}", hash);
+        }
+    }
+
+    // 업로드 스트림을 채널로 임시 파일에 복사하면서 같은 버퍼로 해시도 계산 (한 번만 읽음)
+    private Path writeTemp(MultipartFile file, MessageDigest digest) throws IOException {
+        Path tempDir = root.resolve("tmp");
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 올라온 경우 (내용이 같으므로 기존 파일 유지)
+            log.debug("이미 존재하는 파일: {}", target);
+        }
+    }
+
+    // ab/cd/<hash>
+    private String shardPath(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    private String extensionOf(String filename) {
+        if (filename == null) return "bin";
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1) return "bin";
+        String ext = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return ALLOWED_EXTENSIONS.contains(ext) ? ext : "bin";
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
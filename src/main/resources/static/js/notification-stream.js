@@ -0,0 +1,52 @@
+/**
+ * 헤더 알림 배지 실시간 갱신 (SSE)
+ * - 연결이 끊기면 브라우저(EventSource)가 자동으로 다시 연결한다.
+ * - 서버 이벤트: unread {count} / {delta}, notification {type, title, message, link, count, merged, createdAt}
+ */
+(function () {
+    const link = document.querySelector('.header-notifications a');
+    if (!link || !window.EventSource) return;
+
+    let count = null;
+
+    function render() {
+        let badge = link.querySelector('.badge');
+        if (!count || count <= 0) {
+            if (badge) badge.remove();
+            return;
+        }
+        if (!badge) {
+            badge = document.createElement('span');
+            badge.className = 'position-absolute badge rounded-pill bg-danger z-2';
+            badge.style.top = '-4px';
+            badge.style.right = '-4px';
+            link.appendChild(badge);
+        }
+        badge.textContent = count > 99 ? '99+' : count;
+    }
+
+    const source = new EventSource('/notifications/stream');
+
+    source.addEventListener('unread', function (e) {
+        const data = JSON.parse(e.data);
+        if (data.count !== undefined) {
+            count = data.count;
+        } else if (count !== null) {
+            count = Math.max(0, count + data.delta);
+        }
+        render();
+    });
+
+    source.addEventListener('notification', function (e) {
+        const data = JSON.parse(e.data);
+        // 기존 알림에 합쳐진 경우(merged)는 안 읽은 수가 그대로
+        if (count !== null && !data.merged) count++;
+        render();
+        link.setAttribute('title', data.title);
+    });
+
+    // 페이지를 떠날 때 연결 정리 (서버 쪽 구독자 목록에서 바로 빠지도록)
+    window.addEventListener('pagehide', function () {
+        source.close();
+    });
+})();
@@ -0,0 +1,111 @@
+package com.usedcar.trading.domain.notification.scheduler;
+
+import com.usedcar.trading.domain.notification.entity.NotificationType;
+import com.usedcar.trading.domain.notification.service.NotificationService;
+import com.usedcar.trading.domain.user.entity.Provider;
+import com.usedcar.trading.domain.user.entity.Role;
+import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.user.entity.UserStatus;
+import com.usedcar.trading.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 디스패처 묶음(merge) 테스트
+ * - 이미 만들어진 안 읽은 알림에 같은 창의 요청이 event_count 로 더해지는지 확인한다.
+ * - 읽음 처리된 알림에는 더하지 않고 새 알림을 만든다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notification-dispatch;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.usedcar.trading=INFO"
+})
+class NotificationDispatcherTest {
+
+    private static final String ROWS_SQL =
+            "SELECT notification_id, event_count, message, is_read FROM notification WHERE user_id = ? AND link = ?"
+                    + " ORDER BY notification_id";
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void burstRequestsMergeIntoExistingUnreadNotification() {
+        User user = createUser();
+        String link = "/test/" + UUID.randomUUID();
+
+        request(user, "요청 1", link);
+        dispatcher.dispatch();
+
+        // 첫 알림이 이미 DB 에 있는 상태에서 같은 창의 요청이 더 들어온다 -> MERGE 경로
+        request(user, "요청 2", link);
+        request(user, "요청 3", link);
+        dispatcher.dispatch();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(ROWS_SQL, user.getUserId(), link);
+        assertThat(rows).hasSize(1);
+        assertThat(((Number) rows.get(0).get("event_count")).intValue()).isEqualTo(3);
+        assertThat(rows.get(0).get("message")).isEqualTo("요청 3");
+        assertThat(outboxCount(user)).isZero();
+    }
+
+    @Test
+    void readNotificationIsNotMergedInto() {
+        User user = createUser();
+        String link = "/test/" + UUID.randomUUID();
+
+        request(user, "요청 1", link);
+        dispatcher.dispatch();
+        jdbcTemplate.update("UPDATE notification SET is_read = TRUE WHERE user_id = ? AND link = ?",
+                user.getUserId(), link);
+
+        request(user, "요청 2", link);
+        dispatcher.dispatch();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(ROWS_SQL, user.getUserId(), link);
+        assertThat(rows).hasSize(2);
+        assertThat(((Number) rows.get(0).get("event_count")).intValue()).isEqualTo(1);
+        assertThat(rows.get(1).get("is_read")).isEqualTo(false);
+        assertThat(((Number) rows.get(1).get("event_count")).intValue()).isEqualTo(1);
+    }
+
+    private void request(User user, String message, String link) {
+        notificationService.createNotification(user, NotificationType.TRANSACTION_REQUEST, message, link);
+    }
+
+    private long outboxCount(User user) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification_outbox WHERE user_id = ?", Long.class, user.getUserId());
+        return count == null ? 0 : count;
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email("notify-" + UUID.randomUUID() + "@test.com")
+                .password("-")
+                .name("알림수신자")
+                .phone("010-0000-0000")
+                .role(Role.COMPANY_OWNER)
+                .provider(Provider.LOCAL)
+                .userStatus(UserStatus.ACTIVE)
+                .build());
+    }
+}
@@ -0,0 +1,322 @@
+package com.usedcar.trading.domain.transaction.service;
+
+import com.usedcar.trading.domain.employee.entity.Employee;
+import com.usedcar.trading.domain.settlement.repository.SettlementRepository;
+import com.usedcar.trading.domain.transaction.entity.Transaction;
+import com.usedcar.trading.domain.transaction.entity.TransactionStatus;
+import com.usedcar.trading.domain.transaction.repository.TransactionRepository;
+import com.usedcar.trading.domain.user.entity.Provider;
+import com.usedcar.trading.domain.user.entity.Role;
+import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.user.entity.UserStatus;
+import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.domain.vehicle.entity.FuelType;
+import com.usedcar.trading.domain.vehicle.entity.Transmission;
+import com.usedcar.trading.domain.vehicle.entity.Vehicle;
+import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 흐름 동시성 스트레스 테스트
+ * - 여러 스레드가 같은 매물들에 대해 요청 / 승인 / 취소 / 완료를 섞어서 동시에 호출한다.
+ * - 매물당 승인(예약) 거래는 최대 1건, 완료 거래마다 정산 1건, 성공한 상태 변경이 유실되지 않았는지 확인한다.
+ * - 처리량과 p99 지연 시간을 로그로 남긴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-stress;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.usedcar.trading=INFO"
+})
+class TransactionConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionConcurrencyTest.class);
+
+    private static final int VEHICLES = 6;
+    private static final int BUYERS = 8;
+    private static final int THREADS = 16;
+
+    // 거래 하나당 동시에 보내는 요청 수
+    private static final int APPROVE_CALLS = 2;
+    private static final int CANCEL_CALLS = 1;
+    private static final int COMPLETE_CALLS = 2;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void transactionLifecycleKeepsInvariantsUnderContention() throws Exception {
+        User boss = userRepository.findByEmail("boss@test.com").orElseThrow();
+        User staff = userRepository.findByEmail("staff@test.com").orElseThrow();
+        List<Vehicle> vehicles = createVehicles(staff.getEmployee());
+        List<User> buyers = createBuyers();
+
+        // 1단계: 모든 구매자가 모든 매물에 동시에 구매 요청
+        Stats requestStats = new Stats("request");
+        List<Runnable> requests = new ArrayList<>();
+        for (Vehicle vehicle : vehicles) {
+            for (User buyer : buyers) {
+                requests.add(requestStats.wrap(() -> transactionService.requestTransaction(vehicle.getVehicleId(), buyer)));
+            }
+        }
+        runConcurrently(requests);
+
+        Set<Long> vehicleIds = vehicles.stream().map(Vehicle::getVehicleId).collect(Collectors.toSet());
+        List<Transaction> requested = findTransactions(vehicleIds);
+        assertThat(requested).hasSize(VEHICLES * BUYERS);
+        Map<Long, Long> buyerOf = new HashMap<>();
+        requested.forEach(t -> buyerOf.put(t.getTransactionId(), t.getBuyer().getUserId()));
+        Map<Long, User> buyersById = buyers.stream().collect(Collectors.toMap(User::getUserId, b -> b));
+
+        // 2단계: 승인 / 취소 / 완료를 섞어서 동시에 호출
+        Stats approveStats = new Stats("approve");
+        Stats cancelStats = new Stats("cancel");
+        Stats completeStats = new Stats("complete");
+        Map<Long, Set<String>> succeeded = new ConcurrentHashMap<>();
+
+        List<Runnable> operations = new ArrayList<>();
+        for (Transaction transaction : requested) {
+            Long id = transaction.getTransactionId();
+            User buyer = buyersById.get(buyerOf.get(id));
+            for (int i = 0; i < APPROVE_CALLS; i++) {
+                operations.add(approveStats.wrap(() -> {
+                    transactionService.approveTransaction(id, boss);
+                    record(succeeded, id, "approve");
+                }));
+            }
+            for (int i = 0; i < CANCEL_CALLS; i++) {
+                operations.add(cancelStats.wrap(() -> {
+                    transactionService.cancelTransaction(id, buyer);
+                    record(succeeded, id, "cancel");
+                }));
+            }
+            for (int i = 0; i < COMPLETE_CALLS; i++) {
+                operations.add(completeStats.wrap(() -> {
+                    transactionService.completeTransaction(id, boss);
+                    record(succeeded, id, "complete");
+                }));
+            }
+        }
+        Collections.shuffle(operations);
+        long started = System.nanoTime();
+        runConcurrently(operations);
+        long elapsedNanos = System.nanoTime() - started;
+
+        // 예상 가능한 거절(IllegalState/IllegalArgument) 외의 예외는 없어야 함
+        for (Stats stats : List.of(requestStats, approveStats, cancelStats, completeStats)) {
+            stats.report();
+            assertThat(stats.unexpected)
+                    .as(() -> stats.name + " 예상하지 못한 예외, 첫 원인: " + stats.firstUnexpected())
+                    .isEmpty();
+        }
+        log.info("[stress] lifecycle ops={}, {} ops/s",
+                operations.size(), String.format("%.1f", operations.size() / (elapsedNanos / 1_000_000_000.0)));
+
+        List<Transaction> transactions = findTransactions(vehicleIds);
+        Map<Long, List<Transaction>> byVehicle = transactions.stream()
+                .collect(Collectors.groupingBy(t -> t.getVehicle().getVehicleId()));
+
+        // 불변식 1: 매물당 예약/완료 상태 거래는 최대 1건, 매물 상태와 일치
+        for (Long vehicleId : vehicleIds) {
+            List<Transaction> list = byVehicle.get(vehicleId);
+            long approved = count(list, TransactionStatus.APPROVED);
+            long completed = count(list, TransactionStatus.COMPLETED);
+            assertThat(approved + completed).as("vehicle %d 승인/완료 거래 수", vehicleId).isLessThanOrEqualTo(1);
+
+            VehicleStatus expected = completed > 0 ? VehicleStatus.SOLD
+                    : approved > 0 ? VehicleStatus.RESERVED : VehicleStatus.SALE;
+            assertThat(vehicleRepository.findById(vehicleId).orElseThrow().getVehicleStatus())
+                    .as("vehicle %d 상태", vehicleId).isEqualTo(expected);
+        }
+
+        // 불변식 2: 완료 거래마다 정산 정확히 1건, 그 외 거래는 정산 없음
+        Map<Long, Long> settlements = settlementRepository.findAll().stream()
+                .collect(Collectors.groupingBy(s -> s.getTransaction().getTransactionId(), Collectors.counting()));
+        for (Transaction transaction : transactions) {
+            long expected = transaction.getTransactionStatus() == TransactionStatus.COMPLETED ? 1 : 0;
+            assertThat(settlements.getOrDefault(transaction.getTransactionId(), 0L))
+                    .as("transaction %d 정산 수", transaction.getTransactionId()).isEqualTo(expected);
+        }
+
+        // 불변식 3: 성공 응답을 받은 상태 변경이 최종 상태에 반영됨 (유실 없음)
+        for (Transaction transaction : transactions) {
+            Set<String> ops = succeeded.getOrDefault(transaction.getTransactionId(), Set.of());
+            assertThat(ops.contains("cancel") && ops.contains("complete")).as("취소와 완료가 모두 성공").isFalse();
+            if (ops.contains("complete")) {
+                assertThat(ops).as("완료는 승인 이후에만").contains("approve");
+            }
+            assertThat(transaction.getTransactionStatus())
+                    .as("transaction %d 최종 상태 (성공한 호출: %s)", transaction.getTransactionId(), ops)
+                    .isEqualTo(expectedStatus(ops));
+        }
+        assertThat(completeStats.success).as("완료 성공 수 = 정산 수").hasValue(settlements.entrySet().stream()
+                .filter(e -> buyerOf.containsKey(e.getKey())).mapToLong(Map.Entry::getValue).sum());
+    }
+
+    private TransactionStatus expectedStatus(Set<String> ops) {
+        if (ops.contains("complete")) return TransactionStatus.COMPLETED;
+        if (ops.contains("cancel")) return TransactionStatus.CANCELLED;
+        if (ops.contains("approve")) return TransactionStatus.APPROVED;
+        return TransactionStatus.REQUESTED;
+    }
+
+    private void record(Map<Long, Set<String>> succeeded, Long transactionId, String op) {
+        Set<String> ops = succeeded.computeIfAbsent(transactionId, id -> ConcurrentHashMap.newKeySet());
+        // 같은 거래에 대한 같은 동작은 한 번만 성공해야 함
+        assertThat(ops.add(op)).as("transaction %d %s 중복 성공", transactionId, op).isTrue();
+    }
+
+    private long count(List<Transaction> list, TransactionStatus status) {
+        return list.stream().filter(t -> t.getTransactionStatus() == status).count();
+    }
+
+    private List<Transaction> findTransactions(Set<Long> vehicleIds) {
+        return transactionRepository.findAll().stream()
+                .filter(t -> vehicleIds.contains(t.getVehicle().getVehicleId()))
+                .collect(Collectors.toList());
+    }
+
+    private void runConcurrently(List<Runnable> tasks) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (Runnable task : tasks) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    task.run();
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+    }
+
+    private List<Vehicle> createVehicles(Employee dealer) {
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (int i = 0; i < VEHICLES; i++) {
+            vehicles.add(vehicleRepository.save(Vehicle.builder()
+                    .registeredBy(dealer)
+                    .company(dealer.getCompany())
+                    .brand("현대")
+                    .model("스트레스 " + i)
+                    .modelYear(2022)
+                    .mileage(10000)
+                    .fuelType(FuelType.GASOLINE)
+                    .transmission(Transmission.AUTO)
+                    .price(new BigDecimal(20000000))
+                    .vehicleStatus(VehicleStatus.SALE)
+                    .build()));
+        }
+        return vehicles;
+    }
+
+    private List<User> createBuyers() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<User> buyers = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            buyers.add(userRepository.save(User.builder()
+                    .email("stress-" + run + "-" + i + "@test.com")
+                    .password("-")
+                    .name("구매자" + i)
+                    .phone("010-0000-0000")
+                    .role(Role.CUSTOMER)
+                    .provider(Provider.LOCAL)
+                    .userStatus(UserStatus.ACTIVE)
+                    .build()));
+        }
+        return buyers;
+    }
+
+    // 호출별 지연 시간 / 성공 / 거절 / 예상 밖 예외 집계
+    private static class Stats {
+        private final String name;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong success = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        private Stats(String name) {
+            this.name = name;
+        }
+
+        private Runnable wrap(Runnable call) {
+            return () -> {
+                long begin = System.nanoTime();
+                try {
+                    call.run();
+                    success.incrementAndGet();
+                } catch (IllegalStateException | IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    latencies.add(System.nanoTime() - begin);
+                }
+            };
+        }
+
+        private void report() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long p50 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.50) - 1);
+            long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+            log.info("[stress] {} calls={} success={} rejected={} unexpected={} p50={}ms p99={}ms",
+                    String.format("%-8s", name), sorted.size(), success.get(), rejected.get(), unexpected.size(),
+                    String.format("%.1f", p50 / 1_000_000.0), String.format("%.1f", p99 / 1_000_000.0));
+        }
+
+        // 실패 메시지용: 첫 예외와 그 근본 원인
+        private String firstUnexpected() {
+            Throwable first = unexpected.peek();
+            if (first == null) return "없음";
+
+            Throwable root = first;
+            while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+            StackTraceElement[] trace = first.getStackTrace();
+            return first + (trace.length > 0 ? " at " + trace[0] : "") + (root != first ? ", root cause: " + root : "");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.usedcar.trading.domain.vehicle.search;
+
+import com.usedcar.trading.domain.employee.entity.Employee;
+import com.usedcar.trading.domain.user.entity.User;
+import com.usedcar.trading.domain.user.repository.UserRepository;
+import com.usedcar.trading.domain.vehicle.dto.VehicleCard;
+import com.usedcar.trading.domain.vehicle.dto.VehicleFacetResponse;
+import com.usedcar.trading.domain.vehicle.dto.VehicleSearchCondition;
+import com.usedcar.trading.domain.vehicle.entity.FuelType;
+import com.usedcar.trading.domain.vehicle.entity.Transmission;
+import com.usedcar.trading.domain.vehicle.entity.Vehicle;
+import com.usedcar.trading.domain.vehicle.entity.VehicleStatus;
+import com.usedcar.trading.domain.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 인덱스 / DB 검색 결과 일치 테스트
+ * - 같은 조건이면 인덱스, DB 페이지 검색, 커서 스크롤(최신순 / 가격순)이 같은 매물을 돌려주는지 확인한다.
+ * - 패싯 개수(전체, 브랜드별)도 DB 로 센 값과 같아야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vehicle-search-parity;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.usedcar.trading=INFO"
+})
+class VehicleSearchParityTest {
+
+    private static final Pageable ALL = PageRequest.of(0, 10_000, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private VehicleSearchIndex searchIndex;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private static boolean seeded = false;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) return;
+
+        User staff = userRepository.findByEmail("staff@test.com").orElseThrow();
+        Employee dealer = staff.getEmployee();
+        save(dealer, "BMW", "X5 xDrive30d", 2021, 40_000, 65_000_000, FuelType.DIESEL, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "bmw", "320i", 2018, 80_000, 18_000_000, FuelType.GASOLINE, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "BMW", "X5", 2020, 50_000, 55_000_000, FuelType.DIESEL, Transmission.AUTO, VehicleStatus.PENDING);
+        save(dealer, "현대", "그랜저 IG", 2019, 60_000, 25_000_000, FuelType.GASOLINE, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "현대", "아반떼 하이브리드", 2022, 15_000, 22_000_000, FuelType.HYBRID, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "기아", "K5 50%할인", 2017, 120_000, 9_000_000, FuelType.LPG, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "Kia", "Model_3 look", 2016, 150_000, 7_000_000, FuelType.GASOLINE, Transmission.MANUAL, VehicleStatus.SALE);
+        save(dealer, "Mercedes-Benz", "E-Class", 2023, 5_000, 72_000_000, FuelType.GASOLINE, Transmission.AUTO, VehicleStatus.SALE);
+        save(dealer, "Tesla", "Model 3", 2023, 10_000, 45_000_000, FuelType.ELECTRIC, Transmission.AUTO, VehicleStatus.SALE);
+
+        // 직접 저장한 매물은 변경 이벤트가 없으므로 다시 적재
+        searchIndex.rebuild();
+        seeded = true;
+    }
+
+    @Test
+    void keywordMatchesSameVehiclesAsDatabase() {
+        for (String keyword : new String[]{"bmw", "BMW", "x5", "  X5 ", "xdrive", "5", "model 3", "model",
+                "%", "_", "50%", "e-c", "그랜저", "대", "하이브리드", "x5 xdrive30d", "xdrive x5", "없는차", " "}) {
+            assertSameResults("keyword=" + keyword, c -> c.setKeyword(keyword));
+        }
+    }
+
+    @Test
+    void filtersMatchSameVehiclesAsDatabase() {
+        assertSameResults("all", c -> { });
+        assertSameResults("brand", c -> c.setBrand("BMW"));
+        assertSameResults("brand+keyword", c -> {
+            c.setBrand("현대");
+            c.setKeyword("ig");
+        });
+        assertSameResults("price", c -> {
+            c.setMinPrice(new BigDecimal(10_000_000));
+            c.setMaxPrice(new BigDecimal(50_000_000));
+        });
+        assertSameResults("year+mileage", c -> {
+            c.setMinYear(2018);
+            c.setMaxYear(2022);
+            c.setMaxMileage(60_000);
+        });
+        assertSameResults("fuel+transmission", c -> {
+            c.setFuelTypes(List.of(FuelType.GASOLINE, FuelType.DIESEL));
+            c.setTransmissions(List.of(Transmission.AUTO));
+        });
+        assertSameResults("keyword+fuel+price", c -> {
+            c.setKeyword("model");
+            c.setFuelTypes(List.of(FuelType.ELECTRIC, FuelType.GASOLINE));
+            c.setMaxPrice(new BigDecimal(30_000_000));
+        });
+    }
+
+    private void assertSameResults(String description, Consumer<VehicleSearchCondition> setup) {
+        VehicleSearchCondition condition = new VehicleSearchCondition();
+        setup.accept(condition);
+
+        List<Long> expected = ids(vehicleRepository.searchVehicleCards(
+                condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                condition.getFuelTypes(), condition.getTransmissions(), ALL).getContent());
+
+        List<Long> indexed = searchIndex.search(condition, ALL).getContent();
+        assertThat(indexed).as("index: %s", description).containsExactlyInAnyOrderElementsOf(expected);
+
+        List<Long> latest = ids(vehicleRepository.scrollLatest(
+                condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                condition.getFuelTypes(), condition.getTransmissions(),
+                LocalDateTime.now().plusYears(1), Long.MAX_VALUE, PageRequest.of(0, 10_000)).getContent());
+        assertThat(latest).as("scrollLatest: %s", description).containsExactlyInAnyOrderElementsOf(expected);
+
+        List<Long> byPrice = ids(vehicleRepository.scrollByPrice(
+                condition.getKeyword(), condition.getBrand(), condition.getMinPrice(), condition.getMaxPrice(),
+                condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                condition.getFuelTypes(), condition.getTransmissions(),
+                BigDecimal.valueOf(-1), 0L, PageRequest.of(0, 10_000)).getContent());
+        assertThat(byPrice).as("scrollByPrice: %s", description).containsExactlyInAnyOrderElementsOf(expected);
+
+        VehicleFacetResponse facets = searchIndex.facets(condition);
+        assertThat(facets.getTotal()).as("facet total: %s", description).isEqualTo(expected.size());
+
+        // 브랜드 패싯은 브랜드 선택을 뺀 조건에서 그 브랜드를 골랐을 때의 건수
+        for (Map.Entry<String, Long> brand : facets.getBrands().entrySet()) {
+            long count = vehicleRepository.searchVehicleCards(
+                    condition.getKeyword(), brand.getKey(), condition.getMinPrice(), condition.getMaxPrice(),
+                    condition.getMinYear(), condition.getMaxYear(), condition.getMaxMileage(),
+                    condition.getFuelTypes(), condition.getTransmissions(), ALL).getTotalElements();
+            assertThat(brand.getValue()).as("brand facet %s: %s", brand.getKey(), description).isEqualTo(count);
+        }
+    }
+
+    private List<Long> ids(List<VehicleCard> cards) {
+        List<Long> ids = new ArrayList<>(cards.size());
+        cards.forEach(card -> ids.add(card.getVehicleId()));
+        return ids;
+    }
+
+    private void save(Employee dealer, String brand, String model, int modelYear, int mileage, long price,
+                      FuelType fuelType, Transmission transmission, VehicleStatus status) {
+        vehicleRepository.save(Vehicle.builder()
+                .registeredBy(dealer)
+                .company(dealer.getCompany())
+                .brand(brand)
+                .model(model)
+                .modelYear(modelYear)
+                .mileage(mileage)
+                .fuelType(fuelType)
+                .transmission(transmission)
+                .price(new BigDecimal(price))
+                .vehicleStatus(status)
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package com.usedcar.trading.domain.vehicle.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * HyperLogLog 스케치 단위 테스트
+ * - 추정값이 오차 범위 안에 있는지, 병합이 멱등인지, 저장/복원이 그대로인지 확인한다.
+ */
+class HyperLogLogTest {
+
+    // 표준 오차 1.04 / sqrt(512) ≈ 4.6%, 3 시그마까지 허용
+    private static final double MAX_RELATIVE_ERROR = 3 * 1.04 / Math.sqrt(HyperLogLog.REGISTER_COUNT);
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        for (int n : new int[]{10, 100, 1_000, 10_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = sketchOf("viewer-", 0, n);
+
+            assertThat((double) sketch.estimate())
+                    .as("n=%d", n)
+                    .isCloseTo(n, offset(Math.max(1.0, n * MAX_RELATIVE_ERROR)));
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog sketch = sketchOf("viewer-", 0, 1_000);
+        long before = sketch.estimate();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(sketch.offer("viewer-" + i)).isFalse();
+        }
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    void mergeIsIdempotent() {
+        HyperLogLog sketch = sketchOf("a-", 0, 5_000);
+        HyperLogLog other = sketchOf("b-", 0, 5_000);
+
+        sketch.merge(other);
+        byte[] once = sketch.toBytes();
+        sketch.merge(other);
+        sketch.merge(HyperLogLog.fromBytes(once));
+
+        assertThat(sketch.toBytes()).isEqualTo(once);
+    }
+
+    @Test
+    void mergeOfPartsEqualsSketchOfUnion() {
+        HyperLogLog left = sketchOf("viewer-", 0, 6_000);
+        HyperLogLog right = sketchOf("viewer-", 4_000, 10_000);
+        HyperLogLog union = sketchOf("viewer-", 0, 10_000);
+
+        left.merge(right);
+
+        assertThat(left.toBytes()).isEqualTo(union.toBytes());
+        assertThat(left.estimate()).isEqualTo(union.estimate());
+    }
+
+    @Test
+    void fromBytesRoundTrip() {
+        HyperLogLog sketch = sketchOf("viewer-", 0, 3_000);
+        byte[] bytes = sketch.toBytes();
+
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(restored.toBytes()).isEqualTo(bytes);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+
+        // 복원한 스케치는 넘겨준 배열과 분리되어 있어야 한다
+        bytes[0] = Byte.MAX_VALUE;
+        assertThat(restored.toBytes()[0]).isNotEqualTo(Byte.MAX_VALUE);
+    }
+
+    @Test
+    void fromBytesWithWrongSizeStartsEmpty() {
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+        assertThat(HyperLogLog.fromBytes(new byte[16]).estimate()).isZero();
+    }
+
+    private HyperLogLog sketchOf(String prefix, int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.offer(prefix + i);
+        }
+        return sketch;
+    }
+}